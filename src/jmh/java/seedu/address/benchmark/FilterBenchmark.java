@@ -0,0 +1,81 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.NameContainsKeywordsPredicate;
+
+/**
+ * Compares the throughput of testing every loan against the keywords of a {@code find} command, by matching the
+ * case-folded words that each loan holds for its name, and by splitting the name and comparing each of its words to the
+ * keywords ignoring case, as {@code NameContainsKeywordsPredicate} used to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class FilterBenchmark {
+
+    @Param({"10000", "100000"})
+    protected int size;
+
+    private List<Loan> loans;
+    private List<String> keywords;
+
+    /**
+     * Generates {@code size} loans, and keywords matching a few of them.
+     */
+    @Setup
+    public void setUp() {
+        loans = LoanGenerator.generateLoans(size);
+        keywords = Arrays.asList("Bernice", "Yeoh", String.valueOf(size / 2));
+    }
+
+    /**
+     * Counts the loans whose name contains a keyword, matching the words held by each loan.
+     */
+    @Benchmark
+    public int filterBySearchWords() {
+        return count(new NameContainsKeywordsPredicate(keywords));
+    }
+
+    /**
+     * Counts the loans whose name contains a keyword, splitting each name into words on every test.
+     */
+    @Benchmark
+    public int filterBySplitting() {
+        return count(loan -> keywords.stream()
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(loan.getName().value, keyword)));
+    }
+
+    /**
+     * Returns the number of loans that {@code predicate} is true of.
+     */
+    private int count(Predicate<Loan> predicate) {
+        int count = 0;
+        for (Loan loan : loans) {
+            if (predicate.test(loan)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.LoanQueryParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.loan.LoanQuery;
+import seedu.address.model.loan.NameContainsKeywordsPredicate;
+
+/**
+ * Compares the time taken to filter the loan list for the loans matching a {@code find} command, by searching the name
+ * of every loan for the keywords, and by looking the keywords up in the word index of the loan book, for exact
+ * keywords, for keywords that are to match similar words, and for a query over several fields. Also measures the time
+ * taken by the lookup of the query alone, without filtering the list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class FindBenchmark {
+
+    @Param({"10000", "100000"})
+    protected int size;
+
+    private Model model;
+    private List<String> keywords;
+    private List<String> similarKeywords;
+    private LoanQuery query;
+
+    /**
+     * Creates a model of {@code size} generated loans, and a predicate matching a few of them.
+     */
+    @Setup
+    public void setUp() throws ParseException {
+        model = new ModelManager(LoanGenerator.generateLoanBook(size), new UserPrefs());
+        keywords = Arrays.asList("Bernice", "Yeoh", String.valueOf(size / 2));
+        similarKeywords = Arrays.asList("~Bernise", "~Yeo");
+        query = LoanQueryParser.parse("n/alex n/tan (t/friends OR t/family) NOT t/overdue p/8*");
+    }
+
+    /**
+     * Filters the loan list by testing the name of every loan, as a new predicate so that the list is filtered again.
+     */
+    @Benchmark
+    public int findByScan() {
+        model.updateFilteredLoanList(new NameContainsKeywordsPredicate(keywords));
+        return model.getFilteredLoanList().size();
+    }
+
+    /**
+     * Filters the loan list by looking the loans up in the word index.
+     */
+    @Benchmark
+    public int findByIndex() {
+        model.updateFilteredLoanList(new NameContainsKeywordsPredicate(keywords).using(model.getLoanIndex()));
+        return model.getFilteredLoanList().size();
+    }
+
+    /**
+     * Filters the loan list by computing the edit distance from every word in the name of every loan to the keywords.
+     */
+    @Benchmark
+    public int findSimilarByScan() {
+        model.updateFilteredLoanList(new NameContainsKeywordsPredicate(similarKeywords));
+        return model.getFilteredLoanList().size();
+    }
+
+    /**
+     * Filters the loan list as a {@code find} command does, by looking the words similar to the keywords up in the
+     * tree of words in the word index, and orders the loans found by their distance to the keywords.
+     */
+    @Benchmark
+    public int findSimilarByIndex() {
+        new FindCommand(new NameContainsKeywordsPredicate(similarKeywords)).execute(model, new CommandHistory());
+        return model.getFilteredLoanList().size();
+    }
+
+    /**
+     * Filters the loan list by testing every loan against the query, as a new predicate so that the list is filtered
+     * again.
+     */
+    @Benchmark
+    public int findQueryByScan() {
+        model.updateFilteredLoanList(loan -> query.test(loan));
+        return model.getFilteredLoanList().size();
+    }
+
+    /**
+     * Filters the loan list as a {@code find} command does, by looking the loans matching the query up in the index.
+     */
+    @Benchmark
+    public int findQueryByIndex() {
+        new FindCommand(query).execute(model, new CommandHistory());
+        return model.getFilteredLoanList().size();
+    }
+
+    /**
+     * Looks the loans matching the query up in the index, without filtering the loan list with them.
+     */
+    @Benchmark
+    public boolean lookUpQuery() {
+        return query.using(model.getLoanIndex()).test(model.getFilteredLoanList().get(0));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.LoanBook;
+import seedu.address.storage.BinaryLoanBookReader;
+import seedu.address.storage.BinaryLoanBookWriter;
+import seedu.address.storage.XmlLoanBookReader;
+import seedu.address.storage.XmlLoanBookWriter;
+
+/**
+ * Measures the time taken to save and load the same loan book as xml and binary files at each compression level.
+ * The size of each file written is printed when the benchmark is set up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class LoanBookCompressionBenchmark {
+
+    @Param({"10000", "100000"})
+    protected int size;
+
+    @Param({"0", "1", "6", "9"})
+    protected int compressionLevel;
+
+    private LoanBook loanBook;
+    private Path folder;
+    private Path xmlFile;
+    private Path binaryFile;
+
+    /**
+     * Writes a generated loan book of {@code size} loans to an xml file and a binary file at
+     * {@code compressionLevel}.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        loanBook = LoanGenerator.generateLoanBook(size);
+        folder = Files.createTempDirectory("loanbook-compression");
+        xmlFile = folder.resolve("loanbook.xml");
+        binaryFile = folder.resolve("loanbook.bin");
+        Files.createFile(xmlFile);
+        Files.createFile(binaryFile);
+        XmlLoanBookWriter.write(loanBook, xmlFile, compressionLevel);
+        BinaryLoanBookWriter.write(loanBook, binaryFile, compressionLevel);
+        System.out.println("\nxml: " + Files.size(xmlFile) + " bytes, binary: " + Files.size(binaryFile) + " bytes");
+    }
+
+    /**
+     * Deletes the files written by {@link #setUp()}.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(xmlFile);
+        Files.delete(binaryFile);
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void saveXml() throws IOException {
+        XmlLoanBookWriter.write(loanBook, xmlFile, compressionLevel);
+    }
+
+    @Benchmark
+    public LoanBook loadXml() throws DataConversionException, IOException {
+        return XmlLoanBookReader.read(xmlFile);
+    }
+
+    @Benchmark
+    public void saveBinary() throws IOException {
+        BinaryLoanBookWriter.write(loanBook, binaryFile, compressionLevel);
+    }
+
+    @Benchmark
+    public LoanBook loadBinary() throws DataConversionException, IOException {
+        return BinaryLoanBookReader.read(binaryFile);
+    }
+}
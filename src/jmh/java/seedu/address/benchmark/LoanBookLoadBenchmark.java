@@ -0,0 +1,105 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.LoanBook;
+import seedu.address.storage.BinaryLoanBookReader;
+import seedu.address.storage.BinaryLoanBookStorage;
+import seedu.address.storage.JsonLoanBookReader;
+import seedu.address.storage.JsonLoanBookStorage;
+import seedu.address.storage.XmlFileStorage;
+import seedu.address.storage.XmlLoanBookReader;
+import seedu.address.storage.XmlSerializableLoanBook;
+
+/**
+ * Compares the time taken at startup to load the same loan book from an xml file through JAXB, from an xml file
+ * through the streaming reader, validating loans one by one or in parallel, from a json file through the Jackson
+ * streaming reader, and from a binary file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class LoanBookLoadBenchmark {
+
+    @Param({"10000", "100000"})
+    protected int size;
+
+    private Path folder;
+    private Path xmlFile;
+    private Path jsonFile;
+    private Path binaryFile;
+
+    /**
+     * Writes a generated loan book of {@code size} loans to an xml file through JAXB, to a json file, and to a binary
+     * file.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        LoanBook loanBook = LoanGenerator.generateLoanBook(size);
+        folder = Files.createTempDirectory("loanbook-load");
+        xmlFile = folder.resolve("loanbook.xml");
+        jsonFile = folder.resolve("loanbook.json");
+        binaryFile = folder.resolve("loanbook.bin");
+        Files.createFile(xmlFile);
+        XmlFileStorage.saveDataToFile(xmlFile, new XmlSerializableLoanBook(loanBook));
+        new JsonLoanBookStorage(jsonFile).saveLoanBook(loanBook);
+        new BinaryLoanBookStorage(binaryFile).saveLoanBook(loanBook);
+    }
+
+    /**
+     * Deletes the files written by {@link #setUp()}.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(xmlFile);
+        Files.delete(jsonFile);
+        Files.delete(binaryFile);
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public LoanBook loadXmlWithJaxb() throws DataConversionException, IOException, IllegalValueException {
+        return XmlFileStorage.loadDataFromSaveFile(xmlFile).toModelType();
+    }
+
+    @Benchmark
+    public LoanBook loadXmlStreaming() throws DataConversionException, IOException {
+        return XmlLoanBookReader.read(xmlFile);
+    }
+
+    @Benchmark
+    public LoanBook loadXmlStreamingInParallel() throws DataConversionException, IOException {
+        return XmlLoanBookReader.read(xmlFile, true);
+    }
+
+    @Benchmark
+    public LoanBook loadJsonStreaming() throws DataConversionException, IOException {
+        return JsonLoanBookReader.read(jsonFile);
+    }
+
+    @Benchmark
+    public LoanBook loadBinary() throws DataConversionException, IOException {
+        return BinaryLoanBookReader.read(binaryFile);
+    }
+}
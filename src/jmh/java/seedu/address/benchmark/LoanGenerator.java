@@ -0,0 +1,85 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.LoanBook;
+import seedu.address.model.bike.Bike;
+import seedu.address.model.loan.Address;
+import seedu.address.model.loan.Email;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.Name;
+import seedu.address.model.loan.Phone;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Generates realistic, reproducible loan book data of any size for benchmarks.
+ * Every generated loan and bike has a distinct identity.
+ */
+public class LoanGenerator {
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Mei Ling", "Siti", "Wei Jie", "Priya"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Ng", "Kumar"
+    };
+    private static final String[] STREETS = {
+        "Geylang Street 29", "Lorong 3 Serangoon Gardens", "Ang Mo Kio Street 74", "Tampines Street 20",
+        "Aljunied Street 85", "Jurong West Ave 6", "Clementi Ave 2", "Bedok North Road"
+    };
+    private static final String[] TAGS = {
+        "friends", "colleagues", "neighbours", "family", "classmates", "overdue", "regular", "student"
+    };
+
+    /**
+     * Returns {@code count} loans generated from a fixed seed.
+     */
+    public static List<Loan> generateLoans(int count) {
+        Random random = new Random(count);
+        List<Loan> loans = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            loans.add(generateLoan(i, random));
+        }
+        return loans;
+    }
+
+    /**
+     * Returns {@code count} bikes with distinct names.
+     */
+    public static List<Bike> generateBikes(int count) {
+        List<Bike> bikes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bikes.add(new Bike(new Name(String.format("BIKE%06d", i))));
+        }
+        return bikes;
+    }
+
+    /**
+     * Returns a loan book holding {@code loanCount} generated loans and no bikes.
+     */
+    public static LoanBook generateLoanBook(int loanCount) {
+        LoanBook loanBook = new LoanBook();
+        loanBook.setLoans(generateLoans(loanCount));
+        return loanBook;
+    }
+
+    /**
+     * Returns the {@code i}th generated loan. Its identity fields depend only on {@code i}.
+     */
+    private static Loan generateLoan(int i, Random random) {
+        String name = FIRST_NAMES[i % FIRST_NAMES.length] + " "
+                + LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length] + " " + i;
+        String phone = String.valueOf(80000000 + i);
+        String email = "loaner" + i + "@example.com";
+        String address = "Blk " + (1 + random.nextInt(999)) + " " + STREETS[random.nextInt(STREETS.length)]
+                + ", #" + String.format("%02d-%02d", 1 + random.nextInt(20), 1 + random.nextInt(99));
+        String[] tags = random.nextBoolean()
+                ? new String[] {TAGS[random.nextInt(TAGS.length)]}
+                : new String[] {TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)]};
+
+        return new Loan(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                SampleDataUtil.getTagSet(tags));
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedLoanBook.HistoryMode;
+import seedu.address.model.loan.Address;
+import seedu.address.model.loan.Loan;
+
+/**
+ * Compares the snapshot and operation-log undo engines on a model whose last command edited a single loan, as is
+ * typical at the counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class UndoRedoBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    protected int size;
+
+    @Param({"SNAPSHOT", "OPERATION_LOG"})
+    protected HistoryMode historyMode;
+
+    private Model model;
+    private Loan original;
+    private Loan edited;
+
+    @Setup
+    public void setUp() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMode(historyMode);
+        model = new ModelManager(LoanGenerator.generateLoanBook(size), userPrefs);
+
+        original = model.getLoanBook().getLoanList().get(size / 2);
+        edited = new Loan(original.getName(), original.getPhone(), original.getEmail(),
+                new Address(original.getAddress().value + ", edited"), original.getTags());
+        model.updateLoan(original, edited);
+        model.commitLoanBook();
+    }
+
+    /**
+     * Undoes and redoes the last edit.
+     */
+    @Benchmark
+    public Model undoThenRedo() {
+        model.undoLoanBook();
+        model.redoLoanBook();
+        return model;
+    }
+
+    /**
+     * Edits a single loan and saves the new state, as every mutating command does.
+     */
+    @Benchmark
+    public Model editThenCommit() {
+        Loan current = model.getLoanBook().getLoanList().get(size / 2);
+        model.updateLoan(current, current == edited ? original : edited);
+        model.commitLoanBook();
+        return model;
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.bike.Bike;
+import seedu.address.model.bike.UniqueBikeList;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.UniqueLoanList;
+
+/**
+ * Compares the hash-based validation done by {@code setLoans} and {@code setBikes} with the pairwise comparison of
+ * every two elements that it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class UniquenessValidationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    protected int size;
+
+    private List<Loan> loans;
+    private List<Bike> bikes;
+
+    @Setup
+    public void setUp() {
+        loans = LoanGenerator.generateLoans(size);
+        bikes = LoanGenerator.generateBikes(size);
+    }
+
+    /**
+     * Validates and stores every loan.
+     */
+    @Benchmark
+    public UniqueLoanList setLoans() {
+        UniqueLoanList uniqueLoanList = new UniqueLoanList();
+        uniqueLoanList.setLoans(loans);
+        return uniqueLoanList;
+    }
+
+    /**
+     * Validates the loans by comparing every two of them, as {@code setLoans} used to.
+     */
+    @Benchmark
+    public boolean pairwiseLoanValidation() {
+        for (int i = 0; i < loans.size() - 1; i++) {
+            for (int j = i + 1; j < loans.size(); j++) {
+                if (loans.get(i).isSameLoan(loans.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validates and stores every bike.
+     */
+    @Benchmark
+    public UniqueBikeList setBikes() {
+        UniqueBikeList uniqueBikeList = new UniqueBikeList();
+        uniqueBikeList.setBikes(bikes);
+        return uniqueBikeList;
+    }
+
+    /**
+     * Validates the bikes by comparing every two of them, as {@code setBikes} used to.
+     */
+    @Benchmark
+    public boolean pairwiseBikeValidation() {
+        for (int i = 0; i < bikes.size() - 1; i++) {
+            for (int j = i + 1; j < bikes.size(); j++) {
+                if (bikes.get(i).isSameBike(bikes.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -55,8 +55,13 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        LoanBookStorage loanBookStorage = new XmlLoanBookStorage(userPrefs.getLoanBookFilePath());
-        storage = new StorageManager(loanBookStorage, userPrefsStorage);
+        LoanBookStorage loanBookStorage = initLoanBookStorage(userPrefs);
+        LoanBookBackups loanBookBackups = userPrefs.getLoanBookBackupCount() > 0
+                ? new LoanBookBackups(userPrefs.getLoanBookFilePath().resolveSibling("backups"),
+                        userPrefs.getLoanBookBackupCount())
+                : null;
+        storage = new StorageManager(loanBookStorage, userPrefsStorage, userPrefs.isLoanBookSavedInBackground(),
+                userPrefs.getLoanBookGroupCommitMillis(), loanBookBackups);
 
         initLogging(config);
 
@@ -69,10 +74,32 @@ public class MainApp extends Application {
         initEventsCenter();
     }
 
+    /**
+     * Returns a {@code LoanBookStorage} for the file at {@code userPrefs}'s loan book file path, in the format chosen
+     * in {@code userPrefs}.
+     */
+    private LoanBookStorage initLoanBookStorage(UserPrefs userPrefs) {
+        Path loanBookFilePath = userPrefs.getLoanBookFilePath();
+        switch (userPrefs.getLoanBookFormat()) {
+        case BINARY:
+            return new BinaryLoanBookStorage(loanBookFilePath, userPrefs.getLoanBookCompressionLevel());
+        case PARTITIONED:
+            return new PartitionedLoanBookStorage(loanBookFilePath);
+        case JSON:
+            return new JsonLoanBookStorage(loanBookFilePath, userPrefs.getLoanBookCompressionLevel());
+        default:
+            return userPrefs.isLoanBookJournalled()
+                    ? new JournalledLoanBookStorage(loanBookFilePath)
+                    : new XmlLoanBookStorage(loanBookFilePath, userPrefs.isLoanBookLoadedInParallel(),
+                            userPrefs.getLoanBookCompressionLevel());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s loan book and {@code userPrefs}. <br>
-     * The data from the sample loan book will be used instead if {@code storage}'s loan book is not found,
-     * or an empty loan book will be used instead if errors occur when reading {@code storage}'s loan book.
+     * The data from the sample loan book will be used instead if {@code storage}'s loan book is not found.
+     * If {@code storage}'s loan book is corrupted, the loans that are still intact will be used instead, or an empty
+     * loan book if none can be recovered or errors occur when reading {@code storage}'s loan book.
      */
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
         Optional<ReadOnlyLoanBook> loanBookOptional;
@@ -84,8 +111,7 @@ public class MainApp extends Application {
             }
             initialData = loanBookOptional.orElseGet(SampleDataUtil::getSampleLoanBook);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty LoanBook");
-            initialData = new LoanBook();
+            initialData = recoverLoanBook(storage);
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty LoanBook");
             initialData = new LoanBook();
@@ -94,6 +120,24 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the loans of {@code storage}'s loan book that are still intact, or an empty loan book if there are none.
+     */
+    private ReadOnlyLoanBook recoverLoanBook(Storage storage) {
+        try {
+            Optional<ReadOnlyLoanBook> recovered = storage.recoverLoanBook();
+            if (recovered.isPresent()) {
+                logger.warning("Data file not in the correct format. Will be starting with the "
+                        + recovered.get().getLoanList().size() + " loans that could be recovered from it");
+                return recovered.get();
+            }
+        } catch (IOException e) {
+            logger.warning("Problem while recovering from the file: " + e.getMessage());
+        }
+        logger.warning("Data file not in the correct format. Will be starting with an empty LoanBook");
+        return new LoanBook();
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -179,6 +223,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Loan Book ] =============================");
+        storage.flush();
         ui.stop();
         try {
             storage.saveUserPrefs(userPrefs);
@@ -2,9 +2,17 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +40,49 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns every pair of elements of {@code items} that share at least one key computed by
+     * {@code keyExtractors}. Each pair holds the earlier element as its key and the later element as its value,
+     * and the pairs are ordered by the position of the later element, then of the earlier element.
+     * Runs in a single pass over {@code items}, finding earlier elements with the same key through hash lookups.
+     */
+    @SafeVarargs
+    public static <T> List<Map.Entry<T, T>> findDuplicatePairs(List<? extends T> items,
+            Function<? super T, ?>... keyExtractors) {
+        requireAllNonNull(items);
+        requireNonNull(keyExtractors);
+        for (Function<? super T, ?> keyExtractor : keyExtractors) {
+            requireNonNull(keyExtractor);
+        }
+
+        List<Map<Object, List<Integer>>> seenKeys = new ArrayList<>();
+        for (int k = 0; k < keyExtractors.length; k++) {
+            seenKeys.add(new HashMap<>());
+        }
+
+        List<Map.Entry<T, T>> duplicatePairs = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            SortedSet<Integer> earlierDuplicates = null;
+            for (int k = 0; k < keyExtractors.length; k++) {
+                List<Integer> positionsWithKey = seenKeys.get(k)
+                        .computeIfAbsent(keyExtractors[k].apply(item), unused -> new ArrayList<>(1));
+                if (!positionsWithKey.isEmpty()) {
+                    if (earlierDuplicates == null) {
+                        earlierDuplicates = new TreeSet<>();
+                    }
+                    earlierDuplicates.addAll(positionsWithKey);
+                }
+                positionsWithKey.add(i);
+            }
+
+            if (earlierDuplicates != null) {
+                for (int j : earlierDuplicates) {
+                    duplicatePairs.add(new SimpleImmutableEntry<>(items.get(j), item));
+                }
+            }
+        }
+        return duplicatePairs;
+    }
 }
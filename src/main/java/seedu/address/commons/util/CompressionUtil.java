@@ -0,0 +1,85 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses and decompresses the contents of files as gzip streams.
+ *
+ * Files are only compressed on request, but a compressed file is recognised by its header when read, so a reader does
+ * not need to know how the file was written.
+ */
+public class CompressionUtil {
+
+    /** The compression level of contents that are not compressed at all. */
+    public static final int UNCOMPRESSED = 0;
+    public static final int BEST_SPEED = Deflater.BEST_SPEED;
+    public static final int BEST_COMPRESSION = Deflater.BEST_COMPRESSION;
+
+    public static final String MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS = "Compression level must be between "
+            + UNCOMPRESSED + " and " + BEST_COMPRESSION;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC_FIRST_BYTE = GZIPInputStream.GZIP_MAGIC & 0xFF;
+    private static final int GZIP_MAGIC_SECOND_BYTE = GZIPInputStream.GZIP_MAGIC >>> 8;
+
+    public static boolean isValidCompressionLevel(int level) {
+        return level >= UNCOMPRESSED && level <= BEST_COMPRESSION;
+    }
+
+    /**
+     * Returns a stream that writes to {@code out} compressed at {@code level}, from {@link #BEST_SPEED} to
+     * {@link #BEST_COMPRESSION}, or {@code out} itself if {@code level} is {@link #UNCOMPRESSED}.
+     * Closing the stream returned finishes the compressed contents and closes {@code out}.
+     */
+    public static OutputStream compress(OutputStream out, int level) throws IOException {
+        requireNonNull(out);
+        checkArgument(isValidCompressionLevel(level), MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+
+        if (level == UNCOMPRESSED) {
+            return out;
+        }
+        return new GZIPOutputStream(out, BUFFER_SIZE) {
+            {
+                def.setLevel(level);
+            }
+        };
+    }
+
+    /**
+     * Returns true if the contents of {@code file} start with a gzip header.
+     */
+    public static boolean isCompressed(Path file) throws IOException {
+        requireNonNull(file);
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.read() == GZIP_MAGIC_FIRST_BYTE && in.read() == GZIP_MAGIC_SECOND_BYTE;
+        }
+    }
+
+    /**
+     * Returns a stream that reads the contents of {@code in}, decompressing them if they start with a gzip header.
+     * {@code in} must support {@link InputStream#mark(int)}.
+     */
+    public static InputStream decompress(InputStream in) throws IOException {
+        requireNonNull(in);
+        checkArgument(in.markSupported(), "Stream must support mark");
+
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        if (first == GZIP_MAGIC_FIRST_BYTE && second == GZIP_MAGIC_SECOND_BYTE) {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+        return in;
+    }
+}
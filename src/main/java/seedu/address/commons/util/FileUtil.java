@@ -1,10 +1,15 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes and reads files
@@ -13,6 +18,14 @@ public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
 
+    /**
+     * Writes the whole contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(Path file) throws IOException;
+    }
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -80,4 +93,63 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces {@code file} with the contents written by {@code contentWriter}, creating any missing parent
+     * directories.
+     *
+     * The contents are written to a temporary file next to {@code file} and forced to the disk, and the temporary
+     * file is then renamed over {@code file} in a single atomic step. Whether or not the process stops partway,
+     * {@code file} therefore always holds either its old contents or all of the new contents.
+     *
+     * The temporary file is created with the default permissions of new files, and takes on the POSIX permissions of
+     * {@code file} if it exists, so replacing {@code file} leaves its permissions as they were.
+     */
+    public static void replaceAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        Path parentDir = file.toAbsolutePath().getParent();
+        Files.createDirectories(parentDir);
+        Path tempFile = Files.createFile(parentDir.resolve(file.getFileName() + "."
+                + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp"));
+        try {
+            copyPermissions(file, tempFile);
+            contentWriter.writeTo(tempFile);
+            force(tempFile);
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(parentDir);
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}.
+     * Does nothing if {@code source} is missing, or on file systems without POSIX permissions, such as on Windows.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (Files.exists(source)
+                && Files.getFileStore(target).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        }
+    }
+
+    /**
+     * Forces the contents of {@code file} to the disk.
+     */
+    public static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code dir}, such as a file just renamed into it, to the disk.
+     * Does nothing on platforms that do not allow a directory to be opened, such as Windows.
+     */
+    private static void forceDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // directories cannot be opened as files on Windows
+        }
+    }
+
 }
@@ -0,0 +1,180 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Computes the edits that turn one list into another.
+ */
+public class ListDiffUtil {
+
+    /**
+     * Returns edits that turn {@code source} into {@code target}, in the order they should be applied.
+     *
+     * The elements common to the start and the end of both lists are kept, and so is a longest run of the remaining
+     * elements that appear in the same order in both lists. Everything else is removed, inserted or replaced by
+     * the edits. Elements are matched by {@code equals}, and are assumed to be distinct within {@code source}.
+     *
+     * Takes O(n) time to find the common start and end, plus O(m log m) time for the m elements between them.
+     */
+    public static <T> List<Edit<T>> diff(List<? extends T> source, List<? extends T> target) {
+        requireNonNull(source);
+        requireNonNull(target);
+        List<? extends T> oldList = source instanceof RandomAccess ? source : new ArrayList<>(source);
+        List<? extends T> newList = target instanceof RandomAccess ? target : new ArrayList<>(target);
+
+        int start = 0;
+        while (start < oldList.size() && start < newList.size()
+                && Objects.equals(oldList.get(start), newList.get(start))) {
+            start++;
+        }
+        int oldEnd = oldList.size();
+        int newEnd = newList.size();
+        while (oldEnd > start && newEnd > start && Objects.equals(oldList.get(oldEnd - 1), newList.get(newEnd - 1))) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        List<Edit<T>> edits = new ArrayList<>();
+        if (oldEnd - start == 0 || newEnd - start == 0) {
+            addEdit(edits, newList, start, start, oldEnd, start, newEnd);
+            return edits;
+        }
+
+        int[] keptOldIndices = findKeptOldIndices(oldList.subList(start, oldEnd), newList.subList(start, newEnd));
+        int oldFrom = start;
+        int newFrom = start;
+        for (int j = 0; j < keptOldIndices.length; j++) {
+            if (keptOldIndices[j] >= 0) {
+                int oldIndex = start + keptOldIndices[j];
+                int newIndex = start + j;
+                addEdit(edits, newList, newFrom, oldFrom, oldIndex, newFrom, newIndex);
+                oldFrom = oldIndex + 1;
+                newFrom = newIndex + 1;
+            }
+        }
+        addEdit(edits, newList, newFrom, oldFrom, oldEnd, newFrom, newEnd);
+        return edits;
+    }
+
+    /**
+     * Adds an edit replacing {@code source[oldFrom..oldTo)} with {@code target[newFrom..newTo)}, at position
+     * {@code position} of the list being edited, unless both ranges are empty.
+     */
+    private static <T> void addEdit(List<Edit<T>> edits, List<? extends T> target, int position,
+            int oldFrom, int oldTo, int newFrom, int newTo) {
+        if (oldFrom == oldTo && newFrom == newTo) {
+            return;
+        }
+        edits.add(new Edit<>(position, oldFrom, oldTo - oldFrom, new ArrayList<>(target.subList(newFrom, newTo))));
+    }
+
+    /**
+     * Returns, for each element of {@code newList}, its index in {@code oldList} if it is part of a longest common
+     * subsequence of both lists, or -1 otherwise.
+     * As the elements of {@code oldList} are distinct, this is a longest increasing subsequence of the old indices
+     * of the elements of {@code newList}, found by patience sorting.
+     */
+    private static int[] findKeptOldIndices(List<?> oldList, List<?> newList) {
+        Map<Object, Integer> oldIndices = new HashMap<>();
+        for (int i = 0; i < oldList.size(); i++) {
+            oldIndices.put(oldList.get(i), i);
+        }
+
+        // tails[k] is the position in newList that ends the best increasing run of length k + 1 found so far
+        int[] tails = new int[newList.size()];
+        int[] previous = new int[newList.size()];
+        int[] oldIndexAt = new int[newList.size()];
+        int longest = 0;
+        for (int j = 0; j < newList.size(); j++) {
+            Integer oldIndex = oldIndices.get(newList.get(j));
+            oldIndexAt[j] = oldIndex == null ? -1 : oldIndex;
+            if (oldIndex == null) {
+                continue;
+            }
+            int low = 0;
+            int high = longest;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (oldIndexAt[tails[middle]] < oldIndex) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[j] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = j;
+            if (low == longest) {
+                longest++;
+            }
+        }
+
+        int[] kept = new int[newList.size()];
+        Arrays.fill(kept, -1);
+        for (int j = longest > 0 ? tails[longest - 1] : -1; j >= 0; j = previous[j]) {
+            kept[j] = oldIndexAt[j];
+        }
+        return kept;
+    }
+
+    /**
+     * The replacement of {@code removedCount} elements by {@code added}, at {@code position} of a list that has had
+     * all earlier edits applied to it. The removed elements start at {@code sourcePosition} of the original list.
+     */
+    public static class Edit<T> {
+        private final int position;
+        private final int sourcePosition;
+        private final int removedCount;
+        private final List<T> added;
+
+        Edit(int position, int sourcePosition, int removedCount, List<T> added) {
+            this.position = position;
+            this.sourcePosition = sourcePosition;
+            this.removedCount = removedCount;
+            this.added = added;
+        }
+
+        public int getPosition() {
+            return position;
+        }
+
+        public int getSourcePosition() {
+            return sourcePosition;
+        }
+
+        public int getRemovedCount() {
+            return removedCount;
+        }
+
+        public List<T> getAdded() {
+            return added;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Edit // instanceof handles nulls
+                    && position == ((Edit<?>) other).position
+                    && sourcePosition == ((Edit<?>) other).sourcePosition
+                    && removedCount == ((Edit<?>) other).removedCount
+                    && added.equals(((Edit<?>) other).added));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(position, sourcePosition, removedCount, added);
+        }
+
+        @Override
+        public String toString() {
+            return "at " + position + " (was " + sourcePosition + "): remove " + removedCount + ", add " + added;
+        }
+    }
+}
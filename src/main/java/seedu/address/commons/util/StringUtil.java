@@ -38,6 +38,37 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the least number of characters that
+     * must be inserted, deleted or substituted to turn one into the other. Case is significant.
+     *   <br>examples:<pre>
+     *       getEditDistance("alice", "alice") == 0
+     *       getEditDistance("alxe", "alex") == 2 //two substitutions
+     *       getEditDistance("benson", "bensn") == 1 //one deletion
+     *       </pre>
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] row = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            row[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previousRow[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                row[j] = Math.min(substitution, Math.min(previousRow[j], row[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = row;
+            row = swap;
+        }
+        return previousRow[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -24,4 +26,12 @@ public interface Logic {
 
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
+
+    /**
+     * Returns the ways in which the word at the end of {@code commandText} can be completed from the loan book, each as
+     * the whole command text completed, or an empty list if there are none.
+     * Takes time proportional to the length of the word and the number of completions, logarithmic in the number of
+     * words in the loan book, so it may be called as the user types.
+     */
+    List<String> getCompletions(String commandText);
 }
@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -8,6 +9,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CommandCompleter;
 import seedu.address.logic.parser.LoanBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -22,11 +24,14 @@ public class LogicManager extends ComponentManager implements Logic {
     private final Model model;
     private final CommandHistory history;
     private final LoanBookParser loanBookParser;
+    private final CommandCompleter commandCompleter;
 
     public LogicManager(Model model) {
         this.model = model;
         history = new CommandHistory();
         loanBookParser = new LoanBookParser();
+        // builds the word index now, rather than on the UI thread when the user first asks for a completion
+        commandCompleter = new CommandCompleter(model.getLoanIndex());
     }
 
     @Override
@@ -49,4 +54,9 @@ public class LogicManager extends ComponentManager implements Logic {
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
     }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return commandCompleter.complete(commandText);
+    }
 }
@@ -2,14 +2,22 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanQuery;
 import seedu.address.model.loan.NameContainsKeywordsPredicate;
 
 /**
- * Finds and lists all loans in loan book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all loans in loan book whose name contains any of the argument keywords, or that match a query over
+ * their fields.
+ * Keyword matching is case insensitive. If any keyword is to match similar words, the loans are listed from the
+ * closest match to the furthest.
  */
 public class FindCommand extends Command {
 
@@ -17,19 +25,40 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all loans whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "A keyword starting with " + NameContainsKeywordsPredicate.SIMILAR_KEYWORD_MARKER
+            + " also finds names with similar spellings, closest first.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + NameContainsKeywordsPredicate.SIMILAR_KEYWORD_MARKER + "alxe\n"
+            + "Alternatively, finds all loans matching a query of words in the fields with the prefixes n/, p/, e/, "
+            + "a/ and t/, combined with AND, OR, NOT and parentheses. "
+            + "A word ending in * matches the words starting with it.\n"
+            + "Example: " + COMMAND_WORD + " n/alex (t/friends OR t/family) NOT p/9123*";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final LoanQuery query;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.query = null;
+    }
+
+    public FindCommand(LoanQuery query) {
+        this.predicate = null;
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredLoanList(predicate);
+        if (query != null) {
+            model.updateFilteredLoanList(query.using(model.getLoanIndex()));
+        } else if (predicate.hasSimilarKeywords()) {
+            ToIntFunction<Loan> distance = predicate.distanceUsing(model.getLoanIndex());
+            model.updateFilteredLoanList(loan -> distance.applyAsInt(loan) >= 0, Comparator.comparingInt(distance));
+        } else {
+            model.updateFilteredLoanList(predicate.using(model.getLoanIndex()));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_LOANS_LISTED_OVERVIEW, model.getFilteredLoanList().size()));
     }
@@ -38,6 +67,7 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && Objects.equals(predicate, ((FindCommand) other).predicate) // state check
+                && Objects.equals(query, ((FindCommand) other).query));
     }
 }
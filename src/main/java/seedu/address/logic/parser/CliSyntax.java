@@ -1,5 +1,11 @@
 package seedu.address.logic.parser;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.address.model.loan.LoanIndex.Field;
+
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple commands
  */
@@ -14,4 +20,17 @@ public class CliSyntax {
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
 
+    /* Fields of the word index of the loan book that the prefixes of indexed fields stand for */
+    public static final Map<String, Field> INDEXED_FIELDS_BY_PREFIX;
+
+    static {
+        Map<String, Field> indexedFieldsByPrefix = new LinkedHashMap<>();
+        indexedFieldsByPrefix.put(PREFIX_NAME.getPrefix(), Field.NAME);
+        indexedFieldsByPrefix.put(PREFIX_PHONE.getPrefix(), Field.PHONE);
+        indexedFieldsByPrefix.put(PREFIX_EMAIL.getPrefix(), Field.EMAIL);
+        indexedFieldsByPrefix.put(PREFIX_ADDRESS.getPrefix(), Field.ADDRESS);
+        indexedFieldsByPrefix.put(PREFIX_TAG.getPrefix(), Field.TAG);
+        INDEXED_FIELDS_BY_PREFIX = Collections.unmodifiableMap(indexedFieldsByPrefix);
+    }
+
 }
@@ -0,0 +1,103 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.INDEXED_FIELDS_BY_PREFIX;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.loan.LoanIndex;
+import seedu.address.model.loan.LoanIndex.Field;
+
+/**
+ * Completes the word being typed at the end of a partly typed command from the words of the loans in the loan book.
+ *
+ * The arguments of an {@code add} or {@code edit} command are completed from the field of the loans that their
+ * prefix stands for, so {@code add n/Alice Pa} is completed from the names and {@code edit i/1 x/a12345 t/fr} from
+ * the tags. The terms of a {@code find} command are completed in the same way, each from the field of its own
+ * prefix, or from the names if it has none, so {@code find alex e/jo} is completed from the emails.
+ */
+public class CommandCompleter {
+
+    public static final int MAX_COMPLETIONS = 10;
+
+    private final LoanIndex index;
+
+    public CommandCompleter(LoanIndex index) {
+        requireNonNull(index);
+        this.index = index;
+    }
+
+    /**
+     * Returns {@code commandText} with the word at its end completed in each of the ways that the loan book offers,
+     * up to {@link #MAX_COMPLETIONS} of them in alphabetical order, or an empty list if it offers none.
+     * An email is only completed whole, never to one of the words within it.
+     */
+    public List<String> complete(String commandText) {
+        requireNonNull(commandText);
+        int wordStart = commandText.length();
+        while (wordStart > 0 && !Character.isWhitespace(commandText.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        String head = commandText.substring(0, wordStart);
+        if (head.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        String[] headWords = head.trim().split("\\s+");
+
+        String word = commandText.substring(wordStart);
+        String prefix = getPrefix(word);
+        Field field;
+        switch (headWords[0]) {
+        case FindCommand.COMMAND_WORD:
+            field = prefix.isEmpty() ? Field.NAME : INDEXED_FIELDS_BY_PREFIX.get(prefix);
+            break;
+        case AddCommand.COMMAND_WORD:
+        case EditCommand.COMMAND_WORD:
+            field = getArgumentField(prefix, headWords);
+            break;
+        default:
+            field = null;
+        }
+        String partialWord = word.substring(prefix.length());
+        if (field == null || partialWord.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Predicate<String> isCompletion = completion -> field != Field.EMAIL || completion.indexOf('@') >= 0;
+        List<String> completions = new ArrayList<>();
+        for (String completion : index.complete(field, partialWord, isCompletion, MAX_COMPLETIONS)) {
+            completions.add(head + prefix + completion);
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the field of the argument that a word with {@code prefix} is part of, the argument started by the last
+     * of {@code headWords} with a prefix if the word has none, or null if the argument is not of an indexed field.
+     */
+    private static Field getArgumentField(String prefix, String[] headWords) {
+        if (!prefix.isEmpty()) {
+            return INDEXED_FIELDS_BY_PREFIX.get(prefix);
+        }
+        for (int i = headWords.length - 1; i > 0; i--) {
+            String headWordPrefix = getPrefix(headWords[i]);
+            if (!headWordPrefix.isEmpty()) {
+                return INDEXED_FIELDS_BY_PREFIX.get(headWordPrefix);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the argument prefix that {@code word} starts with, or an empty string if it starts with none.
+     */
+    private static String getPrefix(String word) {
+        return word.length() >= 2 && word.charAt(1) == '/' ? word.substring(0, 2) : "";
+    }
+}
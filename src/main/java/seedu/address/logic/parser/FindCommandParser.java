@@ -25,7 +25,15 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (LoanQueryParser.isQuery(trimmedArgs)) {
+            return new FindCommand(LoanQueryParser.parse(trimmedArgs));
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
+        if (Arrays.asList(nameKeywords).contains(NameContainsKeywordsPredicate.SIMILAR_KEYWORD_MARKER)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
 
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
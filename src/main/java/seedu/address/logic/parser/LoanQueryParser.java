@@ -0,0 +1,205 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.INDEXED_FIELDS_BY_PREFIX;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.loan.LoanIndex.Field;
+import seedu.address.model.loan.LoanQuery;
+
+/**
+ * Parses a query over the indexed fields of loans into a {@code LoanQuery}.
+ *
+ * A query is made of terms such as {@code n/alex}, {@code t/friends} or {@code p/9123*}: a word to match in the field
+ * that the prefix stands for, or in the name if there is no prefix, or with a trailing {@code *}, the start of a word.
+ * Terms are combined with {@code NOT}, then {@code AND}, then {@code OR}, in that order of precedence, and can be
+ * grouped in parentheses. Terms next to each other without an operator are combined with {@code AND}.
+ * <br>e.g. {@code n/alex (t/friends OR t/family) NOT p/9123*}
+ */
+public class LoanQueryParser {
+
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+    public static final String WILDCARD = "*";
+
+    public static final String MESSAGE_INVALID_TERM = "Invalid query term: %1$s\n"
+            + "A term is a word of letters and digits, or an email, after the prefix of a field, "
+            + "and may end in " + WILDCARD + " to match the words starting with it.";
+    public static final String MESSAGE_MISSING_TERM = "Expected a query term after: %1$s";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected %1$s in query";
+    public static final String MESSAGE_UNCLOSED_PARENTHESIS = "Missing ) to close a ( in query";
+
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final List<String> OPERATORS = Arrays.asList(OPERATOR_AND, OPERATOR_OR, OPERATOR_NOT,
+            OPEN_PARENTHESIS, CLOSE_PARENTHESIS);
+
+    private final List<String> tokens;
+    private int position;
+
+    private LoanQueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Returns true if {@code args} use the syntax of a query: an operator, a parenthesis or the prefix of an indexed
+     * field. Other arguments are plain keywords.
+     */
+    public static boolean isQuery(String args) {
+        requireNonNull(args);
+        for (String token : tokenize(args)) {
+            if (OPERATORS.contains(token) || INDEXED_FIELDS_BY_PREFIX.containsKey(getPrefix(token))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses {@code args} into a {@code LoanQuery}.
+     * @throws ParseException if {@code args} is not a valid query.
+     */
+    public static LoanQuery parse(String args) throws ParseException {
+        requireNonNull(args);
+        LoanQueryParser parser = new LoanQueryParser(tokenize(args));
+        LoanQuery query = parser.parseOr();
+        if (parser.position < parser.tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, parser.tokens.get(parser.position)));
+        }
+        return query;
+    }
+
+    /**
+     * Parses terms combined with {@code OR}.
+     */
+    private LoanQuery parseOr() throws ParseException {
+        List<LoanQuery> queries = new ArrayList<>();
+        queries.add(parseAnd());
+        while (accept(OPERATOR_OR)) {
+            queries.add(parseAnd());
+        }
+        return LoanQuery.or(queries);
+    }
+
+    /**
+     * Parses terms combined with {@code AND}, or next to each other, up to the next {@code OR} or closing parenthesis.
+     */
+    private LoanQuery parseAnd() throws ParseException {
+        List<LoanQuery> queries = new ArrayList<>();
+        queries.add(parseNot());
+        while (position < tokens.size() && !peek(OPERATOR_OR) && !peek(CLOSE_PARENTHESIS)) {
+            accept(OPERATOR_AND);
+            queries.add(parseNot());
+        }
+        return LoanQuery.and(queries);
+    }
+
+    /**
+     * Parses a term, or a query in parentheses, preceded by any number of {@code NOT}s.
+     */
+    private LoanQuery parseNot() throws ParseException {
+        if (accept(OPERATOR_NOT)) {
+            return LoanQuery.not(parseNot());
+        }
+        return parsePrimary();
+    }
+
+    /**
+     * Parses a term or a query in parentheses.
+     */
+    private LoanQuery parsePrimary() throws ParseException {
+        if (position >= tokens.size()) {
+            String previous = position == 0 ? "" : tokens.get(position - 1);
+            throw new ParseException(String.format(MESSAGE_MISSING_TERM, previous));
+        }
+        if (accept(OPEN_PARENTHESIS)) {
+            LoanQuery query = parseOr();
+            if (!accept(CLOSE_PARENTHESIS)) {
+                throw new ParseException(MESSAGE_UNCLOSED_PARENTHESIS);
+            }
+            return query;
+        }
+        String token = tokens.get(position);
+        if (OPERATORS.contains(token)) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+        }
+        position++;
+        return parseTerm(token);
+    }
+
+    /**
+     * Parses a term of the form {@code [prefix]word[*]}.
+     */
+    private static LoanQuery parseTerm(String term) throws ParseException {
+        String prefix = getPrefix(term);
+        Field field = prefix.isEmpty() ? Field.NAME : INDEXED_FIELDS_BY_PREFIX.get(prefix);
+        String word = term.substring(prefix.length());
+        boolean isPrefix = word.endsWith(WILDCARD);
+        if (isPrefix) {
+            word = word.substring(0, word.length() - WILDCARD.length());
+        }
+        if (field == null || (word.isEmpty() && !isPrefix) || !isValidWord(field, word)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_TERM, term));
+        }
+        return isPrefix ? LoanQuery.wordPrefix(field, word) : LoanQuery.word(field, word);
+    }
+
+    /**
+     * Returns true if {@code word} can be a word of {@code field} in the index: letters and digits only, except for an
+     * email, which is also indexed whole.
+     */
+    private static boolean isValidWord(Field field, String word) {
+        return field == Field.EMAIL ? !word.contains(WILDCARD) : word.matches("[A-Za-z0-9]*");
+    }
+
+    private boolean peek(String token) {
+        return position < tokens.size() && tokens.get(position).equals(token);
+    }
+
+    /**
+     * Moves past the next token if it is {@code token}. Returns true if it was.
+     */
+    private boolean accept(String token) {
+        if (peek(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static String getPrefix(String token) {
+        return token.length() >= 2 && token.charAt(1) == '/' ? token.substring(0, 2) : "";
+    }
+
+    /**
+     * Splits {@code args} into words at whitespace, with parentheses at the start or end of a word split off.
+     */
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : args.trim().split("\\s+")) {
+            int start = 0;
+            int end = word.length();
+            while (start < end && word.startsWith(OPEN_PARENTHESIS, start)) {
+                tokens.add(OPEN_PARENTHESIS);
+                start++;
+            }
+            int closing = 0;
+            while (end > start && word.startsWith(CLOSE_PARENTHESIS, end - 1)) {
+                closing++;
+                end--;
+            }
+            if (start < end) {
+                tokens.add(word.substring(start, end));
+            }
+            for (int i = 0; i < closing; i++) {
+                tokens.add(CLOSE_PARENTHESIS);
+            }
+        }
+        return tokens;
+    }
+}
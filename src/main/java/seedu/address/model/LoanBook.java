@@ -4,11 +4,14 @@ import static java.util.Objects.hash;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.bike.Bike;
 import seedu.address.model.bike.UniqueBikeList;
 import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanIndex;
+import seedu.address.model.loan.Name;
 import seedu.address.model.loan.UniqueLoanList;
 
 /**
@@ -70,6 +73,22 @@ public class LoanBook implements ReadOnlyLoanBook {
         setLoans(newData.getLoanList());
     }
 
+    /**
+     * Replaces the {@code removedCount} bikes starting at position {@code from} with {@code replacement}.
+     * The result must not contain duplicate bikes.
+     */
+    void replaceBikeRange(int from, int removedCount, List<Bike> replacement) {
+        bikes.replaceRange(from, removedCount, replacement);
+    }
+
+    /**
+     * Replaces the {@code removedCount} loans starting at position {@code from} with {@code replacement}.
+     * The result must not contain duplicate loans.
+     */
+    void replaceLoanRange(int from, int removedCount, List<Loan> replacement) {
+        loans.replaceRange(from, removedCount, replacement);
+    }
+
     //// bike-level operations
 
     /**
@@ -80,6 +99,14 @@ public class LoanBook implements ReadOnlyLoanBook {
         return bikes.contains(bike);
     }
 
+    /**
+     * Returns the bike with the given {@code name}, or {@code Optional.empty()} if there is no such bike.
+     */
+    public Optional<Bike> getBike(Name name) {
+        requireNonNull(name);
+        return bikes.getBike(name);
+    }
+
     /**
      * Adds a bike to the loan book.
      * The bike must not already exist in the loan book.
@@ -163,6 +190,13 @@ public class LoanBook implements ReadOnlyLoanBook {
         return loans.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the index of the words in the fields of the loans, which follows changes to the loan book.
+     */
+    public LoanIndex getLoanIndex() {
+        return loans.getWordIndex();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
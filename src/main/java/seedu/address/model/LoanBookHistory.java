@@ -0,0 +1,159 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.bike.Bike;
+import seedu.address.model.loan.Loan;
+
+/**
+ * The saved states of a {@code VersionedLoanBook}, as a list of entries ordered from oldest to newest with a pointer
+ * to the current one. How an entry describes its state, and how the loan book is moved between states, is up to each
+ * kind of history.
+ *
+ * A history keeps at most {@code maxUndoDepth} undoable states, and evicts its oldest states once the entries are
+ * estimated to use more than {@code byteBudget} bytes. The entry for the oldest state is not counted, as it mostly
+ * shares its data with the live loan book.
+ *
+ * @param <E> the type of entry saved for each state
+ */
+abstract class LoanBookHistory<E> {
+
+    /** Rough size of a bike or loan, including its fields and tags, that is no longer shared with the live book. */
+    static final long ESTIMATED_ELEMENT_BYTES = 400;
+
+    private final int maxUndoDepth;
+    private final long byteBudget;
+    private final List<E> entries = new ArrayList<>();
+    private int currentStatePointer;
+    private long footprint;
+
+    LoanBookHistory(E initialEntry, int maxUndoDepth, long byteBudget) {
+        checkArgument(maxUndoDepth >= 0, VersionedLoanBook.MESSAGE_INVALID_UNDO_DEPTH);
+        checkArgument(byteBudget >= 0, VersionedLoanBook.MESSAGE_INVALID_BYTE_BUDGET);
+        this.maxUndoDepth = maxUndoDepth;
+        this.byteBudget = byteBudget;
+        entries.add(initialEntry);
+    }
+
+    /**
+     * Records a change that has just been made to the bike list of the loan book.
+     */
+    abstract void recordBikeChange(ListChangeListener.Change<? extends Bike> change);
+
+    /**
+     * Records a change that has just been made to the loan list of the loan book.
+     */
+    abstract void recordLoanChange(ListChangeListener.Change<? extends Loan> change);
+
+    /**
+     * Returns the entry for the current contents of the loan book, made up of the changes recorded since the last
+     * commit, undo or redo, and forgets those changes.
+     */
+    abstract E takeUncommittedEntry();
+
+    /**
+     * Returns the estimated number of bytes taken up by {@code entry}, beyond what it shares with the entries before
+     * it and with the live loan book.
+     */
+    abstract long estimateBytes(E entry);
+
+    /**
+     * Moves the loan book back from the state saved as {@code undoneEntry} to the one saved as {@code previousEntry},
+     * discarding any uncommitted changes.
+     */
+    abstract void revert(E undoneEntry, E previousEntry);
+
+    /**
+     * Moves the loan book forward to the state saved as {@code redoneEntry}, discarding any uncommitted changes.
+     */
+    abstract void advance(E redoneEntry);
+
+    /**
+     * Saves the current state of the loan book after the current entry, removing any undone entries and evicting the
+     * oldest entries if the history is over its bounds.
+     */
+    final void commit() {
+        List<E> undoneEntries = entries.subList(currentStatePointer + 1, entries.size());
+        undoneEntries.forEach(entry -> footprint -= estimateBytes(entry));
+        undoneEntries.clear();
+
+        E entry = takeUncommittedEntry();
+        entries.add(entry);
+        footprint += estimateBytes(entry);
+        currentStatePointer++;
+        evictOldestEntriesOverBounds();
+    }
+
+    /**
+     * Evicts the oldest entries until there are at most {@code maxUndoDepth} undoable states and the footprint is
+     * within {@code byteBudget}. The current entry is never evicted.
+     */
+    private void evictOldestEntriesOverBounds() {
+        int evictedCount = 0;
+        while (evictedCount < currentStatePointer
+                && (currentStatePointer - evictedCount > maxUndoDepth || footprint > byteBudget)) {
+            // the next entry becomes the oldest, so it no longer counts towards the footprint
+            footprint -= estimateBytes(entries.get(evictedCount + 1));
+            evictedCount++;
+        }
+        entries.subList(0, evictedCount).clear();
+        currentStatePointer -= evictedCount;
+    }
+
+    final boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    final boolean canRedo() {
+        return currentStatePointer < entries.size() - 1;
+    }
+
+    /**
+     * Restores the loan book to the state before the current one. There must be such a state.
+     */
+    final void undo() {
+        assert canUndo();
+        E undoneEntry = entries.get(currentStatePointer);
+        currentStatePointer--;
+        revert(undoneEntry, entries.get(currentStatePointer));
+    }
+
+    /**
+     * Restores the loan book to the state after the current one. There must be such a state.
+     */
+    final void redo() {
+        assert canRedo();
+        currentStatePointer++;
+        advance(entries.get(currentStatePointer));
+    }
+
+    final long getFootprint() {
+        return footprint;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // handles nulls and histories of different kinds
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+
+        LoanBookHistory<?> otherHistory = (LoanBookHistory<?>) other;
+        return entries.equals(otherHistory.entries)
+                && currentStatePointer == otherHistory.currentStatePointer;
+    }
+
+    @Override
+    public int hashCode() {
+        return entries.hashCode() * 31 + currentStatePointer;
+    }
+}
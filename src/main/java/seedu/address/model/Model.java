@@ -1,10 +1,14 @@
 package seedu.address.model;
 
+import java.util.Comparator;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.bike.Bike;
 import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanIndex;
+import seedu.address.model.loan.Name;
 
 /**
  * The API of the Model component.
@@ -26,6 +30,11 @@ public interface Model {
      */
     boolean hasBike(Bike bike);
 
+    /**
+     * Returns the bike with the given {@code name}, or {@code Optional.empty()} if there is no such bike.
+     */
+    Optional<Bike> getBike(Name name);
+
     /**
      * Adds the given bike.
      * {@code bike} must not already exist in the loan book.
@@ -81,12 +90,22 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered loan list */
     ObservableList<Loan> getFilteredLoanList();
 
+    /** Returns the index of the words in the fields of the loans in the loan book */
+    LoanIndex getLoanIndex();
+
     /**
      * Updates the filter of the filtered loan list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredLoanList(Predicate<Loan> predicate);
 
+    /**
+     * Updates the filter of the filtered loan list to filter by the given {@code predicate}, and orders the loans in it
+     * by {@code comparator} instead of in the order of the loan book, until the filter is next updated.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredLoanList(Predicate<Loan> predicate, Comparator<Loan> comparator);
+
     /**
      * Returns true if the model has previous loan book states to restore.
      */
@@ -111,4 +130,9 @@ public interface Model {
      * Saves the current loan book state for undo/redo.
      */
     void commitLoanBook();
+
+    /**
+     * Returns the estimated number of bytes taken up by the model's undo/redo history.
+     */
+    long getUndoHistoryFootprint();
 }
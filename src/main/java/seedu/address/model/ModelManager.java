@@ -3,17 +3,22 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.LoanBookChangedEvent;
 import seedu.address.model.bike.Bike;
 import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanIndex;
+import seedu.address.model.loan.Name;
 
 /**
  * Represents the in-memory model of the loan book data.
@@ -24,6 +29,8 @@ public class ModelManager extends ComponentManager implements Model {
     private final VersionedLoanBook versionedLoanBook;
     private final FilteredList<Bike> filteredBikes;
     private final FilteredList<Loan> filteredLoans;
+    /** The filtered loans in the order they are shown, which is that of the loan book unless a comparator is set. */
+    private final SortedList<Loan> sortedLoans;
 
     /**
      * Initializes a ModelManager with the given loanBook and userPrefs.
@@ -34,9 +41,11 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with loan book: " + loanBook + " and user prefs " + userPrefs);
 
-        versionedLoanBook = new VersionedLoanBook(loanBook);
+        versionedLoanBook = new VersionedLoanBook(loanBook, userPrefs.getUndoHistoryMode(),
+                userPrefs.getMaxUndoDepth(), userPrefs.getUndoHistoryByteBudget());
         filteredBikes = new FilteredList<>(versionedLoanBook.getBikeList());
         filteredLoans = new FilteredList<>(versionedLoanBook.getLoanList());
+        sortedLoans = new SortedList<>(filteredLoans);
     }
 
     public ModelManager() {
@@ -67,6 +76,12 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedLoanBook.hasBike(bike);
     }
 
+    @Override
+    public Optional<Bike> getBike(Name name) {
+        requireNonNull(name);
+        return versionedLoanBook.getBike(name);
+    }
+
     @Override
     public void addBike(Bike bike) {
         versionedLoanBook.addBike(bike);
@@ -141,15 +156,28 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<Loan> getFilteredLoanList() {
-        return FXCollections.unmodifiableObservableList(filteredLoans);
+        return FXCollections.unmodifiableObservableList(sortedLoans);
+    }
+
+    @Override
+    public LoanIndex getLoanIndex() {
+        return versionedLoanBook.getLoanIndex();
     }
 
     @Override
     public void updateFilteredLoanList(Predicate<Loan> predicate) {
         requireNonNull(predicate);
+        sortedLoans.setComparator(null);
         filteredLoans.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredLoanList(Predicate<Loan> predicate, Comparator<Loan> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredLoans.setPredicate(predicate);
+        sortedLoans.setComparator(comparator);
+    }
+
     //=========== Undo/Redo =================================================================================
 
     @Override
@@ -179,6 +207,11 @@ public class ModelManager extends ComponentManager implements Model {
         versionedLoanBook.commit();
     }
 
+    @Override
+    public long getUndoHistoryFootprint() {
+        return versionedLoanBook.getHistoryFootprint();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -195,7 +228,7 @@ public class ModelManager extends ComponentManager implements Model {
         ModelManager other = (ModelManager) obj;
         return versionedLoanBook.equals(other.versionedLoanBook)
                 && filteredBikes.equals(other.filteredBikes)
-                && filteredLoans.equals(other.filteredLoans);
+                && sortedLoans.equals(other.sortedLoans);
     }
 
 }
@@ -0,0 +1,194 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.bike.Bike;
+import seedu.address.model.loan.Loan;
+
+/**
+ * A {@code LoanBookHistory} that saves, for every state, only the edits that led to it from the previous state.
+ *
+ * Each edit replaces a range of one of the loan book's lists, and keeps the elements it removed so that it can be
+ * inverted. Undo applies the inverse of the current state's edits and redo applies the next state's edits, both
+ * through range replacements on the loan book, so neither costs more than the size of the edits.
+ */
+class OperationLogHistory extends LoanBookHistory<OperationLogHistory.Transition> {
+
+    /** Rough size of a recorded edit, including its lists, without the elements they hold. */
+    private static final long ESTIMATED_EDIT_BYTES = 64;
+
+    /** Size of a reference to an element that is still shared with the live loan book. */
+    private static final long REFERENCE_BYTES = 8;
+
+    private final LoanBook loanBook;
+
+    private List<ListEdit<Bike>> uncommittedBikeEdits = new ArrayList<>();
+    private List<ListEdit<Loan>> uncommittedLoanEdits = new ArrayList<>();
+
+    OperationLogHistory(LoanBook loanBook, int maxUndoDepth, long byteBudget) {
+        super(new Transition(Collections.emptyList(), Collections.emptyList()), maxUndoDepth, byteBudget);
+        this.loanBook = loanBook;
+    }
+
+    @Override
+    void recordBikeChange(ListChangeListener.Change<? extends Bike> change) {
+        recordChange(uncommittedBikeEdits, change);
+    }
+
+    @Override
+    void recordLoanChange(ListChangeListener.Change<? extends Loan> change) {
+        recordChange(uncommittedLoanEdits, change);
+    }
+
+    @Override
+    Transition takeUncommittedEntry() {
+        Transition transition = new Transition(uncommittedBikeEdits, uncommittedLoanEdits);
+        uncommittedBikeEdits = new ArrayList<>();
+        uncommittedLoanEdits = new ArrayList<>();
+        return transition;
+    }
+
+    @Override
+    long estimateBytes(Transition transition) {
+        return transition.estimatedBytes;
+    }
+
+    @Override
+    void revert(Transition undoneTransition, Transition previousTransition) {
+        discardUncommittedEdits();
+        undoEdits(undoneTransition.bikeEdits, loanBook::replaceBikeRange);
+        undoEdits(undoneTransition.loanEdits, loanBook::replaceLoanRange);
+    }
+
+    @Override
+    void advance(Transition redoneTransition) {
+        discardUncommittedEdits();
+        redoEdits(redoneTransition.bikeEdits, loanBook::replaceBikeRange);
+        redoEdits(redoneTransition.loanEdits, loanBook::replaceLoanRange);
+    }
+
+    /**
+     * Reverts the loan book to the last committed or restored state.
+     */
+    private void discardUncommittedEdits() {
+        undoEdits(uncommittedBikeEdits, loanBook::replaceBikeRange);
+        undoEdits(uncommittedLoanEdits, loanBook::replaceLoanRange);
+        uncommittedBikeEdits = new ArrayList<>();
+        uncommittedLoanEdits = new ArrayList<>();
+    }
+
+    /**
+     * Appends the edits described by {@code change} to {@code edits}, in the order they were made.
+     */
+    private static <T> void recordChange(List<ListEdit<T>> edits, ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                List<T> before = new ArrayList<>();
+                for (int i = from; i < change.getTo(); i++) {
+                    before.add(change.getList().get(change.getPermutation(i)));
+                }
+                List<T> after = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                edits.add(new ListEdit<>(from, before, after));
+            } else if (change.wasAdded() || change.wasRemoved()) {
+                edits.add(new ListEdit<>(from, new ArrayList<>(change.getRemoved()),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+    }
+
+    /**
+     * Applies the inverse of each of {@code edits}, latest first, through {@code rangeReplacer}.
+     */
+    private static <T> void undoEdits(List<ListEdit<T>> edits, RangeReplacer<T> rangeReplacer) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            ListEdit<T> edit = edits.get(i);
+            rangeReplacer.replaceRange(edit.from, edit.added.size(), edit.removed);
+        }
+    }
+
+    /**
+     * Applies each of {@code edits}, earliest first, through {@code rangeReplacer}.
+     */
+    private static <T> void redoEdits(List<ListEdit<T>> edits, RangeReplacer<T> rangeReplacer) {
+        for (ListEdit<T> edit : edits) {
+            rangeReplacer.replaceRange(edit.from, edit.removed.size(), edit.added);
+        }
+    }
+
+    /**
+     * Replaces a range of one of the loan book's lists.
+     */
+    @FunctionalInterface
+    private interface RangeReplacer<T> {
+        void replaceRange(int from, int removedCount, List<T> replacement);
+    }
+
+    /**
+     * The replacement of the elements {@code removed}, starting at position {@code from} of a list, by the elements
+     * {@code added}.
+     */
+    private static class ListEdit<T> {
+        private final int from;
+        private final List<T> removed;
+        private final List<T> added;
+
+        ListEdit(int from, List<T> removed, List<T> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        long estimateBytes() {
+            return ESTIMATED_EDIT_BYTES + (removed.size() + added.size()) * REFERENCE_BYTES
+                    + removed.size() * ESTIMATED_ELEMENT_BYTES;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ListEdit // instanceof handles nulls
+                    && from == ((ListEdit<?>) other).from
+                    && removed.equals(((ListEdit<?>) other).removed)
+                    && added.equals(((ListEdit<?>) other).added));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removed, added);
+        }
+    }
+
+    /**
+     * The edits that lead from one saved state of the loan book to the next.
+     */
+    static class Transition {
+        private final List<ListEdit<Bike>> bikeEdits;
+        private final List<ListEdit<Loan>> loanEdits;
+        private final long estimatedBytes;
+
+        Transition(List<ListEdit<Bike>> bikeEdits, List<ListEdit<Loan>> loanEdits) {
+            this.bikeEdits = bikeEdits;
+            this.loanEdits = loanEdits;
+            estimatedBytes = bikeEdits.stream().mapToLong(ListEdit::estimateBytes).sum()
+                    + loanEdits.stream().mapToLong(ListEdit::estimateBytes).sum();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Transition // instanceof handles nulls
+                    && bikeEdits.equals(((Transition) other).bikeEdits)
+                    && loanEdits.equals(((Transition) other).loanEdits));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bikeEdits, loanEdits);
+        }
+    }
+}
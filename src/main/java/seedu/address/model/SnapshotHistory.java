@@ -0,0 +1,187 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.bike.Bike;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.util.PersistentList;
+
+/**
+ * A {@code LoanBookHistory} that saves every state in full, as {@code PersistentList}s of its bikes and loans.
+ *
+ * The lists of each state share all unchanged structure with the states before and after it. The lists for the
+ * current state are updated on every recorded change, so committing a state takes O(1) time and only the changed
+ * paths of the lists take up extra memory. Undo and redo reset the loan book to the saved lists.
+ */
+class SnapshotHistory extends LoanBookHistory<SnapshotHistory.LoanBookState> {
+
+    /**
+     * A change touching more than one in this many elements of a list is applied by rebuilding the persistent list,
+     * which takes O(n) time, instead of one element at a time, which takes O(log n) time per element.
+     */
+    private static final int REBUILD_THRESHOLD = 16;
+
+    /** Rough size of a persistent list node, including its object header. */
+    private static final long ESTIMATED_NODE_BYTES = 40;
+
+    private final LoanBook loanBook;
+
+    private PersistentList<Bike> currentBikes;
+    private PersistentList<Loan> currentLoans;
+
+    /** Estimated bytes used by changes recorded since the current state was committed or restored. */
+    private long uncommittedBytes;
+
+    SnapshotHistory(LoanBook loanBook, int maxUndoDepth, long byteBudget) {
+        this(loanBook, PersistentList.of(loanBook.getBikeList()), PersistentList.of(loanBook.getLoanList()),
+                maxUndoDepth, byteBudget);
+    }
+
+    private SnapshotHistory(LoanBook loanBook, PersistentList<Bike> bikes, PersistentList<Loan> loans,
+            int maxUndoDepth, long byteBudget) {
+        super(new LoanBookState(bikes, loans, 0), maxUndoDepth, byteBudget);
+        this.loanBook = loanBook;
+        currentBikes = bikes;
+        currentLoans = loans;
+    }
+
+    @Override
+    void recordBikeChange(ListChangeListener.Change<? extends Bike> change) {
+        currentBikes = applyChange(currentBikes, change);
+        uncommittedBytes += estimateChangeBytes(currentBikes.size(), change);
+    }
+
+    @Override
+    void recordLoanChange(ListChangeListener.Change<? extends Loan> change) {
+        currentLoans = applyChange(currentLoans, change);
+        uncommittedBytes += estimateChangeBytes(currentLoans.size(), change);
+    }
+
+    @Override
+    LoanBookState takeUncommittedEntry() {
+        LoanBookState state = new LoanBookState(currentBikes, currentLoans, uncommittedBytes);
+        uncommittedBytes = 0;
+        return state;
+    }
+
+    @Override
+    long estimateBytes(LoanBookState state) {
+        return state.estimatedBytes;
+    }
+
+    @Override
+    void revert(LoanBookState undoneState, LoanBookState previousState) {
+        restore(previousState);
+    }
+
+    @Override
+    void advance(LoanBookState redoneState) {
+        restore(redoneState);
+    }
+
+    /**
+     * Replaces the contents of the loan book with {@code state}, and makes {@code state}'s lists the current ones.
+     */
+    private void restore(LoanBookState state) {
+        loanBook.resetData(state);
+        currentBikes = state.bikes;
+        currentLoans = state.loans;
+        uncommittedBytes = 0;
+    }
+
+    /**
+     * Returns {@code list} with the changes described by {@code change} applied to it.
+     */
+    private static <E> PersistentList<E> applyChange(PersistentList<E> list,
+            ListChangeListener.Change<? extends E> change) {
+        if ((long) countChangedElements(change) * REBUILD_THRESHOLD > change.getList().size()) {
+            return PersistentList.of(change.getList());
+        }
+
+        change.reset();
+        while (change.next()) {
+            int from = change.getFrom();
+            List<? extends E> added = change.getAddedSubList();
+            int replacedCount = Math.min(change.getRemovedSize(), added.size());
+            for (int i = 0; i < replacedCount; i++) {
+                list = list.with(from + i, added.get(i));
+            }
+            for (int i = replacedCount; i < change.getRemovedSize(); i++) {
+                list = list.minus(from + replacedCount);
+            }
+            for (int i = replacedCount; i < added.size(); i++) {
+                list = list.plus(from + i, added.get(i));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Returns the estimated number of bytes by which {@code change} grew a persistent list that now has
+     * {@code newSize} elements: the changed elements, plus the path-copied nodes above each of them.
+     */
+    private static long estimateChangeBytes(int newSize, ListChangeListener.Change<?> change) {
+        change.reset();
+        int changedCount = countChangedElements(change);
+        int pathLength = 33 - Integer.numberOfLeadingZeros(newSize);
+        long copiedNodes = Math.min((long) changedCount * pathLength, newSize);
+        return copiedNodes * ESTIMATED_NODE_BYTES + (long) changedCount * ESTIMATED_ELEMENT_BYTES;
+    }
+
+    /**
+     * Returns the number of elements added or removed by {@code change}. Permutations count as changing every
+     * element of the list.
+     */
+    private static int countChangedElements(ListChangeListener.Change<?> change) {
+        int changedCount = 0;
+        while (change.next()) {
+            changedCount += change.wasPermutated()
+                    ? change.getList().size()
+                    : change.getRemovedSize() + change.getAddedSize();
+        }
+        return changedCount;
+    }
+
+    /**
+     * An immutable saved state of the loan book.
+     */
+    static class LoanBookState implements ReadOnlyLoanBook {
+        private final PersistentList<Bike> bikes;
+        private final PersistentList<Loan> loans;
+        /** Estimated bytes used by the changes from the previous state to this one. */
+        private final long estimatedBytes;
+
+        LoanBookState(PersistentList<Bike> bikes, PersistentList<Loan> loans, long estimatedBytes) {
+            this.bikes = bikes;
+            this.loans = loans;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        @Override
+        public ObservableList<Bike> getBikeList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(bikes));
+        }
+
+        @Override
+        public ObservableList<Loan> getLoanList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(loans));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof LoanBookState // instanceof handles nulls
+                    && bikes.equals(((LoanBookState) other).bikes)
+                    && loans.equals(((LoanBookState) other).loans));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bikes, loans);
+        }
+    }
+}
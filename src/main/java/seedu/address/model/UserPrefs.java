@@ -5,14 +5,30 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.VersionedLoanBook.HistoryMode;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs {
 
+    /**
+     * The formats in which the loan book can be kept on the hard disk.
+     */
+    public enum LoanBookFormat { XML, BINARY, PARTITIONED, JSON }
+
     private GuiSettings guiSettings;
     private Path loanBookFilePath = Paths.get("data" , "loanbook.xml");
+    private HistoryMode undoHistoryMode = HistoryMode.SNAPSHOT;
+    private int maxUndoDepth = 100;
+    private long undoHistoryByteBudget = 64L * 1024 * 1024;
+    private boolean loanBookSavedInBackground = true;
+    private long loanBookGroupCommitMillis = 200;
+    private boolean loanBookJournalled = false;
+    private LoanBookFormat loanBookFormat = LoanBookFormat.XML;
+    private boolean loanBookLoadedInParallel = true;
+    private int loanBookCompressionLevel = 0;
+    private int loanBookBackupCount = 0;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +54,93 @@ public class UserPrefs {
         this.loanBookFilePath = loanBookFilePath;
     }
 
+    public HistoryMode getUndoHistoryMode() {
+        return undoHistoryMode == null ? HistoryMode.SNAPSHOT : undoHistoryMode;
+    }
+
+    public void setUndoHistoryMode(HistoryMode undoHistoryMode) {
+        this.undoHistoryMode = undoHistoryMode;
+    }
+
+    public int getMaxUndoDepth() {
+        return maxUndoDepth;
+    }
+
+    public void setMaxUndoDepth(int maxUndoDepth) {
+        this.maxUndoDepth = maxUndoDepth;
+    }
+
+    public long getUndoHistoryByteBudget() {
+        return undoHistoryByteBudget;
+    }
+
+    public void setUndoHistoryByteBudget(long undoHistoryByteBudget) {
+        this.undoHistoryByteBudget = undoHistoryByteBudget;
+    }
+
+    public boolean isLoanBookSavedInBackground() {
+        return loanBookSavedInBackground;
+    }
+
+    public void setLoanBookSavedInBackground(boolean loanBookSavedInBackground) {
+        this.loanBookSavedInBackground = loanBookSavedInBackground;
+    }
+
+    public long getLoanBookGroupCommitMillis() {
+        return loanBookGroupCommitMillis;
+    }
+
+    public void setLoanBookGroupCommitMillis(long loanBookGroupCommitMillis) {
+        this.loanBookGroupCommitMillis = loanBookGroupCommitMillis;
+    }
+
+    public boolean isLoanBookJournalled() {
+        return loanBookJournalled;
+    }
+
+    public void setLoanBookJournalled(boolean loanBookJournalled) {
+        this.loanBookJournalled = loanBookJournalled;
+    }
+
+    public LoanBookFormat getLoanBookFormat() {
+        return loanBookFormat == null ? LoanBookFormat.XML : loanBookFormat;
+    }
+
+    public void setLoanBookFormat(LoanBookFormat loanBookFormat) {
+        this.loanBookFormat = loanBookFormat;
+    }
+
+    public boolean isLoanBookLoadedInParallel() {
+        return loanBookLoadedInParallel;
+    }
+
+    public void setLoanBookLoadedInParallel(boolean loanBookLoadedInParallel) {
+        this.loanBookLoadedInParallel = loanBookLoadedInParallel;
+    }
+
+    /**
+     * Returns the level at which the loan book file is compressed, from 1 for the fastest to 9 for the smallest,
+     * or 0 if it is not compressed.
+     */
+    public int getLoanBookCompressionLevel() {
+        return loanBookCompressionLevel;
+    }
+
+    public void setLoanBookCompressionLevel(int loanBookCompressionLevel) {
+        this.loanBookCompressionLevel = loanBookCompressionLevel;
+    }
+
+    /**
+     * Returns the number of generations of backups of the loan book to keep, or 0 if it is not backed up.
+     */
+    public int getLoanBookBackupCount() {
+        return loanBookBackupCount;
+    }
+
+    public void setLoanBookBackupCount(int loanBookBackupCount) {
+        this.loanBookBackupCount = loanBookBackupCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +153,24 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(loanBookFilePath, o.loanBookFilePath);
+                && Objects.equals(loanBookFilePath, o.loanBookFilePath)
+                && Objects.equals(undoHistoryMode, o.undoHistoryMode)
+                && maxUndoDepth == o.maxUndoDepth
+                && undoHistoryByteBudget == o.undoHistoryByteBudget
+                && loanBookSavedInBackground == o.loanBookSavedInBackground
+                && loanBookGroupCommitMillis == o.loanBookGroupCommitMillis
+                && loanBookJournalled == o.loanBookJournalled
+                && Objects.equals(loanBookFormat, o.loanBookFormat)
+                && loanBookLoadedInParallel == o.loanBookLoadedInParallel
+                && loanBookCompressionLevel == o.loanBookCompressionLevel
+                && loanBookBackupCount == o.loanBookBackupCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, loanBookFilePath);
+        return Objects.hash(guiSettings, loanBookFilePath, undoHistoryMode, maxUndoDepth, undoHistoryByteBudget,
+                loanBookSavedInBackground, loanBookGroupCommitMillis, loanBookJournalled, loanBookFormat,
+                loanBookLoadedInParallel, loanBookCompressionLevel, loanBookBackupCount);
     }
 
     @Override
@@ -63,6 +178,16 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + loanBookFilePath);
+        sb.append("\nUndo history mode : " + undoHistoryMode);
+        sb.append("\nMaximum undo depth : " + maxUndoDepth);
+        sb.append("\nUndo history byte budget : " + undoHistoryByteBudget);
+        sb.append("\nLoan book saved in background : " + loanBookSavedInBackground);
+        sb.append("\nLoan book group commit delay (ms) : " + loanBookGroupCommitMillis);
+        sb.append("\nLoan book journalled : " + loanBookJournalled);
+        sb.append("\nLoan book format : " + loanBookFormat);
+        sb.append("\nLoan book loaded in parallel : " + loanBookLoadedInParallel);
+        sb.append("\nLoan book compression level : " + loanBookCompressionLevel);
+        sb.append("\nLoan book backups kept : " + loanBookBackupCount);
         return sb.toString();
     }
 
@@ -1,36 +1,87 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
-import java.util.List;
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.bike.Bike;
+import seedu.address.model.loan.Loan;
 
 /**
  * {@code LoanBook} that keeps track of its own history.
+ *
+ * Every change to the bike and loan lists is recorded in a {@code LoanBookHistory}, chosen by {@code HistoryMode}:
+ * either persistent snapshots of each state, or a log of the edits between states. Either way, committing a state
+ * only costs the changes made since the last commit.
+ *
+ * The history can be bounded by a maximum undo depth and an approximate byte budget, in which case the oldest states
+ * are evicted first once either bound is exceeded.
  */
 public class VersionedLoanBook extends LoanBook {
 
-    private final List<ReadOnlyLoanBook> loanBookStateList;
-    private int currentStatePointer;
+    public static final String MESSAGE_INVALID_UNDO_DEPTH = "The maximum undo depth cannot be negative.";
+    public static final String MESSAGE_INVALID_BYTE_BUDGET = "The undo history byte budget cannot be negative.";
 
-    public VersionedLoanBook(ReadOnlyLoanBook initialState) {
-        super(initialState);
+    /**
+     * The ways in which a {@code VersionedLoanBook} can save its states.
+     */
+    public enum HistoryMode {
+        /** Saves every state in full, sharing unchanged structure between states. Undo and redo reset the book. */
+        SNAPSHOT,
+        /** Saves the edits between states. Undo and redo apply only those edits, or their inverses. */
+        OPERATION_LOG
+    }
 
-        loanBookStateList = new ArrayList<>();
-        loanBookStateList.add(new LoanBook(initialState));
-        currentStatePointer = 0;
+    private final LoanBookHistory<?> history;
+
+    // The listeners below live only as long as these views of the bike and loan lists, so the views are kept here.
+    private final ObservableList<Bike> bikeListView;
+    private final ObservableList<Loan> loanListView;
+
+    private boolean isRestoringState;
+
+    /**
+     * Creates a loan book with unbounded snapshot history, starting from {@code initialState}.
+     */
+    public VersionedLoanBook(ReadOnlyLoanBook initialState) {
+        this(initialState, HistoryMode.SNAPSHOT, Integer.MAX_VALUE, Long.MAX_VALUE);
     }
 
     /**
-     * Saves a copy of the current {@code LoanBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Creates a loan book starting from {@code initialState}, that saves its states as described by
+     * {@code historyMode}, keeps at most {@code maxUndoDepth} undoable states and evicts its oldest states once they
+     * are estimated to use more than {@code historyByteBudget} bytes.
      */
-    public void commit() {
-        removeStatesAfterCurrentPointer();
-        loanBookStateList.add(new LoanBook(this));
-        currentStatePointer++;
+    public VersionedLoanBook(ReadOnlyLoanBook initialState, HistoryMode historyMode, int maxUndoDepth,
+            long historyByteBudget) {
+        super(initialState);
+        requireNonNull(historyMode);
+
+        history = historyMode == HistoryMode.OPERATION_LOG
+                ? new OperationLogHistory(this, maxUndoDepth, historyByteBudget)
+                : new SnapshotHistory(this, maxUndoDepth, historyByteBudget);
+
+        bikeListView = getBikeList();
+        loanListView = getLoanList();
+        bikeListView.addListener((ListChangeListener<Bike>) change -> {
+            if (!isRestoringState) {
+                history.recordBikeChange(change);
+            }
+        });
+        loanListView.addListener((ListChangeListener<Loan>) change -> {
+            if (!isRestoringState) {
+                history.recordLoanChange(change);
+            }
+        });
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        loanBookStateList.subList(currentStatePointer + 1, loanBookStateList.size()).clear();
+    /**
+     * Saves the current {@code LoanBook} state at the end of the state list.
+     * Undone states are removed from the state list, and the oldest states are evicted if the history is over its
+     * bounds.
+     */
+    public void commit() {
+        history.commit();
     }
 
     /**
@@ -40,8 +91,12 @@ public class VersionedLoanBook extends LoanBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(loanBookStateList.get(currentStatePointer));
+        isRestoringState = true;
+        try {
+            history.undo();
+        } finally {
+            isRestoringState = false;
+        }
     }
 
     /**
@@ -51,22 +106,34 @@ public class VersionedLoanBook extends LoanBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(loanBookStateList.get(currentStatePointer));
+        isRestoringState = true;
+        try {
+            history.redo();
+        } finally {
+            isRestoringState = false;
+        }
     }
 
     /**
      * Returns true if {@code undo()} has loan book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has loan book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < loanBookStateList.size() - 1;
+        return history.canRedo();
+    }
+
+    /**
+     * Returns the estimated number of bytes taken up by the saved states, beyond what the oldest state shares with
+     * the live loan book.
+     */
+    public long getHistoryFootprint() {
+        return history.getFootprint();
     }
 
     @Override
@@ -85,8 +152,7 @@ public class VersionedLoanBook extends LoanBook {
 
         // state check
         return super.equals(otherVersionedLoanBook)
-                && loanBookStateList.equals(otherVersionedLoanBook.loanBookStateList)
-                && currentStatePointer == otherVersionedLoanBook.currentStatePointer;
+                && history.equals(otherVersionedLoanBook.history);
     }
 
     /**
@@ -1,15 +1,25 @@
 package seedu.address.model.bike;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicatePairs;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListDiffUtil;
 import seedu.address.model.bike.exceptions.BikeNotFoundException;
 import seedu.address.model.bike.exceptions.DuplicateBikeException;
+import seedu.address.model.loan.Name;
 
 /**
  * A list of bikes that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +28,9 @@ import seedu.address.model.bike.exceptions.DuplicateBikeException;
  * unique in terms of identity in the UniqueBikeList. However, the removal of a bike uses Bike#equals(Object) so
  * as to ensure that the bike with exactly the same fields will be removed.
  *
+ * The position of every bike in the list is also kept in a map keyed by the bike's name, so that identity checks and
+ * lookups by name take constant time instead of a scan of the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Bike#isSameBike(Bike)
@@ -26,12 +39,24 @@ public class UniqueBikeList implements Iterable<Bike> {
 
     private final ObservableList<Bike> internalList = FXCollections.observableArrayList();
 
+    /** Position in {@code internalList} of the bike with each name. */
+    private final Map<Name, Integer> positions = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent bike as the given argument.
      */
     public boolean contains(Bike toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameBike);
+        return positions.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the bike with the given {@code name}, or {@code Optional.empty()} if there is no such bike.
+     */
+    public Optional<Bike> getBike(Name name) {
+        requireNonNull(name);
+        Integer index = positions.get(name);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /**
@@ -43,6 +68,7 @@ public class UniqueBikeList implements Iterable<Bike> {
         if (contains(toAdd)) {
             throw new DuplicateBikeException();
         }
+        recordPositions(internalList.size(), 0, Collections.singletonList(toAdd));
         internalList.add(toAdd);
     }
 
@@ -54,7 +80,7 @@ public class UniqueBikeList implements Iterable<Bike> {
     public void setBike(Bike target, Bike editedBike) {
         requireAllNonNull(target, editedBike);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new BikeNotFoundException();
         }
@@ -63,6 +89,8 @@ public class UniqueBikeList implements Iterable<Bike> {
             throw new DuplicateBikeException();
         }
 
+        positions.remove(target.getName());
+        recordPositions(index, 1, Collections.singletonList(editedBike));
         internalList.set(index, editedBike);
     }
 
@@ -72,27 +100,81 @@ public class UniqueBikeList implements Iterable<Bike> {
      */
     public void remove(Bike toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new BikeNotFoundException();
         }
+
+        positions.remove(toRemove.getName());
+        recordPositions(index, 1, Collections.emptyList());
+        internalList.remove(index);
+    }
+
+    /**
+     * Replaces the {@code removedCount} bikes starting at position {@code from} with {@code replacement}, firing
+     * only the list changes needed for that range.
+     * The bikes in {@code replacement} must not have the same identity as each other or as any bike left in the list.
+     */
+    public void replaceRange(int from, int removedCount, List<Bike> replacement) {
+        requireAllNonNull(replacement);
+        if (!canReplace(internalList.subList(from, from + removedCount), replacement)) {
+            throw new DuplicateBikeException();
+        }
+        replaceInternalRange(from, removedCount, replacement);
     }
 
     public void setBikes(UniqueBikeList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code bikes}.
      * {@code bikes} must not contain duplicate bikes.
+     *
+     * Only the bikes that differ between this list and {@code bikes} are validated and replaced, through the
+     * smallest list changes found by {@code ListDiffUtil#diff}, so that views of this list are not rebuilt in full.
+     * When there are several changes, every bike to be removed is removed before any is added, so that a bike that
+     * moves is never in the list twice, even between changes.
      */
     public void setBikes(List<Bike> bikes) {
         requireAllNonNull(bikes);
-        if (!bikesAreUnique(bikes)) {
-            throw new DuplicateBikeException();
+        List<ListDiffUtil.Edit<Bike>> edits = ListDiffUtil.diff(internalList, bikes);
+        List<Bike> removed = new ArrayList<>();
+        List<Bike> added = new ArrayList<>();
+        for (ListDiffUtil.Edit<Bike> edit : edits) {
+            int sourcePosition = edit.getSourcePosition();
+            removed.addAll(internalList.subList(sourcePosition, sourcePosition + edit.getRemovedCount()));
+            added.addAll(edit.getAdded());
+        }
+        if (!canReplace(removed, added)) {
+            throw new DuplicateBikeException(findDuplicateBikes(bikes));
         }
 
-        internalList.setAll(bikes);
+        if (edits.size() == 1) {
+            ListDiffUtil.Edit<Bike> edit = edits.get(0);
+            replaceInternalRange(edit.getPosition(), edit.getRemovedCount(), edit.getAdded());
+            return;
+        }
+        // the bikes removed by later edits stay in the list, and in positions, until those edits are made
+        for (ListDiffUtil.Edit<Bike> edit : edits) {
+            for (int i = edit.getSourcePosition(); i < edit.getSourcePosition() + edit.getRemovedCount(); i++) {
+                positions.put(internalList.get(i).getName(), i);
+            }
+        }
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            ListDiffUtil.Edit<Bike> edit = edits.get(i);
+            internalList.subList(edit.getSourcePosition(), edit.getSourcePosition() + edit.getRemovedCount())
+                    .forEach(bike -> positions.remove(bike.getName()));
+            recordPositions(edit.getSourcePosition(), edit.getRemovedCount(), Collections.emptyList());
+            internalList.remove(edit.getSourcePosition(), edit.getSourcePosition() + edit.getRemovedCount());
+        }
+        for (ListDiffUtil.Edit<Bike> edit : edits) {
+            recordPositions(edit.getPosition(), 0, edit.getAdded());
+            internalList.addAll(edit.getPosition(), edit.getAdded());
+        }
     }
 
     /**
@@ -120,17 +202,76 @@ public class UniqueBikeList implements Iterable<Bike> {
     }
 
     /**
-     * Returns true if {@code bikes} contains only unique bikes.
+     * Returns true if replacing the bikes {@code removed} with the bikes {@code added} would leave no two bikes with
+     * the same identity. If so, the names of the bikes {@code removed} are dropped from {@code positions}, and the
+     * positions of the bikes {@code added} must be recorded before they are added to {@code internalList}.
      */
-    private boolean bikesAreUnique(List<Bike> bikes) {
-        for (int i = 0; i < bikes.size() - 1; i++) {
-            for (int j = i + 1; j < bikes.size(); j++) {
-                if (bikes.get(i).isSameBike(bikes.get(j))) {
-                    return false;
-                }
+    private boolean canReplace(List<Bike> removed, List<Bike> added) {
+        removed.forEach(bike -> positions.remove(bike.getName()));
+        Set<Name> addedNames = new HashSet<>();
+        for (Bike bike : added) {
+            if (positions.containsKey(bike.getName()) || !addedNames.add(bike.getName())) {
+                removed.forEach(removedBike -> positions.put(removedBike.getName(), internalList.indexOf(removedBike)));
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Replaces the {@code removedCount} bikes of {@code internalList} starting at {@code from} with
+     * {@code replacement}, in as few list changes as possible.
+     * The names of the bikes replaced must already have been dropped from {@code positions}.
+     */
+    private void replaceInternalRange(int from, int removedCount, List<Bike> replacement) {
+        if (removedCount == internalList.size()) {
+            recordPositions(from, removedCount, replacement);
+            internalList.setAll(replacement);
+        } else if (removedCount == 1 && replacement.size() == 1) {
+            recordPositions(from, removedCount, replacement);
+            internalList.set(from, replacement.get(0));
+        } else {
+            recordPositions(from, removedCount, Collections.emptyList());
+            internalList.remove(from, from + removedCount);
+            recordPositions(from, 0, replacement);
+            internalList.addAll(from, replacement);
+        }
+    }
+
+    /**
+     * Records the positions the bikes of {@code internalList} are about to have, once its {@code removedCount} bikes
+     * starting at {@code from} are replaced with {@code replacement}. The names of the bikes replaced must already
+     * have been dropped from {@code positions}.
+     * The positions are always updated before {@code internalList}, so that listeners of the list see them up to date.
+     */
+    private void recordPositions(int from, int removedCount, List<Bike> replacement) {
+        for (int i = 0; i < replacement.size(); i++) {
+            positions.put(replacement.get(i).getName(), from + i);
+        }
+        int shift = replacement.size() - removedCount;
+        if (shift != 0) {
+            for (int i = from + removedCount; i < internalList.size(); i++) {
+                positions.put(internalList.get(i).getName(), i + shift);
+            }
+        }
+    }
+
+    /**
+     * Returns the position of a bike equal to {@code bike} in {@code internalList}, or -1 if there is none.
+     */
+    private int indexOf(Bike bike) {
+        Integer index = positions.get(bike.getName());
+        return index != null && internalList.get(index).equals(bike) ? index : -1;
+    }
+
+    /**
+     * Returns every pair of bikes in {@code bikes} with the same identity, as the earlier bike mapped to the later one.
+     * Takes time linear in the size of {@code bikes} and the number of pairs found.
+     *
+     * @see seedu.address.commons.util.CollectionUtil#findDuplicatePairs
+     */
+    public static List<Map.Entry<Bike, Bike>> findDuplicateBikes(List<Bike> bikes) {
+        return findDuplicatePairs(bikes, Bike::getName);
+    }
 }
 
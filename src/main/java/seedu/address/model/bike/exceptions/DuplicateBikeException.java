@@ -1,11 +1,38 @@
 package seedu.address.model.bike.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.bike.Bike;
+
 /**
  * Signals that the operation will result in duplicate Bikes (Bikes are considered duplicates if they have the same
  * identity).
  */
 public class DuplicateBikeException extends RuntimeException {
+    private final List<Map.Entry<Bike, Bike>> duplicatePairs;
+
     public DuplicateBikeException() {
         super("Operation would result in duplicate bikes");
+        duplicatePairs = Collections.emptyList();
+    }
+
+    /**
+     * @param duplicatePairs every pair of bikes with the same identity that the operation would have produced
+     */
+    public DuplicateBikeException(List<Map.Entry<Bike, Bike>> duplicatePairs) {
+        super("Operation would result in duplicate bikes: " + duplicatePairs.stream()
+                .map(pair -> pair.getKey().getName().toString())
+                .collect(Collectors.joining(", ")));
+        this.duplicatePairs = Collections.unmodifiableList(duplicatePairs);
+    }
+
+    /**
+     * Returns every pair of bikes with the same identity, if they are known.
+     */
+    public List<Map.Entry<Bike, Bike>> getDuplicatePairs() {
+        return duplicatePairs;
     }
 }
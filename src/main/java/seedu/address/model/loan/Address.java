@@ -1,6 +1,7 @@
 package seedu.address.model.loan;
 
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Loan's address in the loan book.
@@ -11,6 +12,8 @@ public class Address extends DataField<String> {
     public static final String MESSAGE_ADDRESS_CONSTRAINTS =
             "Addresses can take any values, and it should not be blank";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile("[^\\s].*");
+
     /**
      * Constructs an {@code Address}.
      *
@@ -28,7 +31,7 @@ public class Address extends DataField<String> {
          * The first character of the address must not be a whitespace,
          * otherwise " " (a blank string) becomes a valid input.
          */
-        return objString.matches("[^\\s].*");
+        return VALIDATION_PATTERN.matcher(objString).matches();
     }
 
 }
@@ -0,0 +1,91 @@
+package seedu.address.model.loan;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A Burkhard-Keller tree of words, which finds the words within an edit distance of a word without computing the
+ * distance to every word in the tree.
+ *
+ * Each child of a node is keyed by its distance to the node, so by the triangle inequality the words within
+ * {@code maxDistance} of a word {@code w} can only be under the children of a node {@code n} keyed from
+ * {@code d(w, n) - maxDistance} to {@code d(w, n) + maxDistance}, and the other children need not be visited.
+ */
+class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree, unless it is already in it.
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the words in the tree within {@code maxDistance} of {@code word}, with their distance to it.
+     */
+    Map<String, Integer> search(String word, int maxDistance) {
+        Map<String, Integer> found = new HashMap<>();
+        if (root == null) {
+            return found;
+        }
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance <= maxDistance) {
+                found.put(node.word, distance);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    toVisit.push(child.getValue());
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * A word in the tree, and its children by their distance to it.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.loan;
 
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Loan's email in the loan book.
@@ -24,6 +25,8 @@ public class Email extends DataField<String> {
     private static final String DOMAIN_FIRST_CHARACTER_REGEX = "[^\\W_]"; // alphanumeric characters except underscore
     private static final String DOMAIN_MIDDLE_REGEX = "[a-zA-Z0-9.-]*"; // alphanumeric, period and hyphen
     private static final String DOMAIN_LAST_CHARACTER_REGEX = "[^\\W_]$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(LOCAL_PART_REGEX + "@"
+            + DOMAIN_FIRST_CHARACTER_REGEX + DOMAIN_MIDDLE_REGEX + DOMAIN_LAST_CHARACTER_REGEX);
 
     /**
      * Constructs an {@code Email}.
@@ -38,8 +41,7 @@ public class Email extends DataField<String> {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String objString) {
-        return objString.matches(LOCAL_PART_REGEX + "@"
-            + DOMAIN_FIRST_CHARACTER_REGEX + DOMAIN_MIDDLE_REGEX + DOMAIN_LAST_CHARACTER_REGEX);
+        return VALIDATION_PATTERN.matcher(objString).matches();
     }
 
 }
@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.model.loan.LoanIndex.Field;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -24,6 +25,12 @@ public class Loan {
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
 
+    /**
+     * Case-folded, interned words of each indexed field, by the ordinal of the field, computed when first searched.
+     * Not part of the state of the loan, as they are derived from its fields.
+     */
+    private volatile String[][] searchWords;
+
     /**
      * Every field must be present and not null.
      */
@@ -60,6 +67,20 @@ public class Loan {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the case-folded words of {@code field}, as they are indexed, interned so that they can be compared to
+     * an interned word by reference. They are only computed on the first call, so that searching the loan again
+     * allocates nothing. The array is shared and must not be modified.
+     */
+    String[] getSearchWords(Field field) {
+        String[][] words = searchWords;
+        if (words == null) {
+            words = LoanIndex.getSearchWords(this);
+            searchWords = words;
+        }
+        return words[field.ordinal()];
+    }
+
     /**
      * Returns true if both loans of the same name have at least one other identity field that is the same.
      * This defines a weaker notion of equality between two loans.
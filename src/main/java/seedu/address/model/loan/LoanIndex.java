@@ -0,0 +1,428 @@
+package seedu.address.model.loan;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the case-folded words in the name, phone, address, email and tags of the loans of a
+ * {@code UniqueLoanList} to the loans that contain them, kept up to date by the list as it changes.
+ *
+ * A word is a run of letters and digits, so {@code "Blk 30, #06-40"} is made of the words {@code blk}, {@code 30},
+ * {@code 06} and {@code 40}. An email is also indexed whole, as well as word by word.
+ *
+ * Loans are held by identity, as the instances in the list, so a posting list is a set of references that is cheap to
+ * update and to look a loan up in. The words of each field are kept sorted, so that the words starting with a prefix,
+ * as offered to complete a partly typed word, are found in time logarithmic in the number of words plus the number
+ * found. The words similar to a misspelt word are found from a {@link BkTree} of the words of the field, which is only
+ * built once they are first looked up.
+ */
+public class LoanIndex {
+
+    /**
+     * The fields of a loan that are indexed.
+     */
+    public enum Field { NAME, PHONE, ADDRESS, EMAIL, TAG }
+
+    /** Posting lists of the words of each field, by case-folded word. */
+    private final Map<Field, NavigableMap<String, Posting>> postings = new EnumMap<>(Field.class);
+    /**
+     * Trees of the case-folded words of the fields that similar words have been looked up in, built on the first
+     * lookup. A word is not taken out of its tree when the last loan containing it is removed, so a tree may hold
+     * words that are no longer in the index, until it is rebuilt.
+     */
+    private final Map<Field, BkTree> similarityTrees = new EnumMap<>(Field.class);
+    /** Number of changes made to the index, so that results computed from it can tell when they are stale. */
+    private long modificationCount;
+
+    LoanIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Returns the loans whose {@code field} contains {@code word}, ignoring case.
+     * The set returned is a view of the index, which must not be changed while the set is in use.
+     */
+    public Set<Loan> getLoans(Field field, String word) {
+        requireNonNull(field);
+        requireNonNull(word);
+        Posting posting = postings.get(field).get(foldCase(word));
+        return posting == null ? Collections.emptySet() : Collections.unmodifiableSet(posting.loans);
+    }
+
+    /**
+     * Returns up to {@code limit} of the words in {@code field} that start with {@code prefix}, ignoring case, in
+     * alphabetical order. Each word is spelt as it was in the first loan found to contain it.
+     */
+    public List<String> complete(Field field, String prefix, int limit) {
+        return complete(field, prefix, word -> true, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} of the words in {@code field} that start with {@code prefix}, ignoring case, and
+     * that {@code filter} accepts, in alphabetical order. Each word is spelt as it was in the first loan found to
+     * contain it, and is passed to {@code filter} spelt that way.
+     */
+    public List<String> complete(Field field, String prefix, Predicate<String> filter, int limit) {
+        requireNonNull(field);
+        requireNonNull(prefix);
+        requireNonNull(filter);
+        String foldedPrefix = foldCase(prefix);
+        List<String> completions = new ArrayList<>();
+        for (Map.Entry<String, Posting> entry : postings.get(field).tailMap(foldedPrefix, true).entrySet()) {
+            if (completions.size() >= limit || !entry.getKey().startsWith(foldedPrefix)) {
+                break;
+            }
+            if (filter.test(entry.getValue().word)) {
+                completions.add(entry.getValue().word);
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the loans whose {@code field} contains a word starting with {@code prefix}, ignoring case: the union of
+     * the posting lists of those words.
+     */
+    public Set<Loan> findPrefixed(Field field, String prefix) {
+        requireNonNull(field);
+        requireNonNull(prefix);
+        String foldedPrefix = foldCase(prefix);
+        Set<Loan> found = newLoanSet();
+        for (Map.Entry<String, Posting> entry : postings.get(field).tailMap(foldedPrefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(foldedPrefix)) {
+                break;
+            }
+            found.addAll(entry.getValue().loans);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the sum of the sizes of the posting lists of the words in {@code field} that start with {@code prefix},
+     * ignoring case, or {@code limit} if the sum reaches it, which bounds the time taken to count them.
+     */
+    public long countPrefixed(Field field, String prefix, long limit) {
+        requireNonNull(field);
+        requireNonNull(prefix);
+        String foldedPrefix = foldCase(prefix);
+        long count = 0;
+        for (Map.Entry<String, Posting> entry : postings.get(field).tailMap(foldedPrefix, true).entrySet()) {
+            if (count >= limit || !entry.getKey().startsWith(foldedPrefix)) {
+                break;
+            }
+            count += entry.getValue().loans.size();
+        }
+        return Math.min(count, limit);
+    }
+
+    /**
+     * Returns the words in {@code field} within an edit distance of {@code maxDistance} of {@code word}, ignoring case,
+     * with their distance to it.
+     */
+    public Map<String, Integer> findSimilarWords(Field field, String word, int maxDistance) {
+        requireNonNull(field);
+        requireNonNull(word);
+        NavigableMap<String, Posting> fieldPostings = postings.get(field);
+        BkTree tree = similarityTrees.get(field);
+        if (tree == null || tree.size() > 2 * fieldPostings.size()) {
+            tree = new BkTree();
+            fieldPostings.keySet().forEach(tree::add);
+            similarityTrees.put(field, tree);
+        }
+
+        Map<String, Integer> found = tree.search(foldCase(word), maxDistance);
+        found.keySet().retainAll(fieldPostings.keySet());
+        return found;
+    }
+
+    /**
+     * Returns a function from a loan in the list to the least edit distance, ignoring case, between a word of its
+     * {@code field} and any of the words in {@code maxDistances} that is within the greatest distance given for that
+     * word, or to -1 if there is no such word in the loan.
+     * The distances are looked up again only after the index changes, like the loans found by {@link #matchingAny}.
+     */
+    public ToIntFunction<Loan> distanceToAny(Field field, Map<String, Integer> maxDistances) {
+        requireNonNull(field);
+        Map<String, Integer> maxDistancesCopy = new HashMap<>(maxDistances);
+        return new ToIntFunction<Loan>() {
+            private long foundAtModificationCount = -1;
+            private Map<Loan, Integer> distances;
+
+            @Override
+            public int applyAsInt(Loan loan) {
+                if (foundAtModificationCount != modificationCount) {
+                    distances = findDistances(field, maxDistancesCopy);
+                    foundAtModificationCount = modificationCount;
+                }
+                return distances.getOrDefault(loan, -1);
+            }
+        };
+    }
+
+    /**
+     * Returns the loans whose {@code field} contains any of {@code words}, ignoring case: the union of their posting
+     * lists.
+     */
+    public Set<Loan> findAny(Field field, Collection<String> words) {
+        requireNonNull(words);
+        Set<Loan> found = newLoanSet();
+        for (String word : words) {
+            found.addAll(getLoans(field, word));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the loans whose {@code field} contains every one of {@code words}, ignoring case: the intersection of
+     * their posting lists, taken from the shortest list up.
+     */
+    public Set<Loan> findAll(Field field, Collection<String> words) {
+        requireNonNull(words);
+        List<Set<Loan>> postingLists = new ArrayList<>();
+        for (String word : words) {
+            postingLists.add(getLoans(field, word));
+        }
+        if (postingLists.isEmpty()) {
+            return newLoanSet();
+        }
+        postingLists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Loan> found = newLoanSet();
+        found.addAll(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !found.isEmpty(); i++) {
+            found.retainAll(postingLists.get(i));
+        }
+        return found;
+    }
+
+    /**
+     * Returns a predicate that tests whether the {@code field} of a loan in the list contains any of {@code words},
+     * ignoring case, like {@link #findAny}.
+     * The loans found are looked up again only after the index changes, so testing every loan in the list takes
+     * time proportional to the number found rather than to the number of words in every loan.
+     */
+    public Predicate<Loan> matchingAny(Field field, Collection<String> words) {
+        requireNonNull(field);
+        List<String> wordsCopy = new ArrayList<>(words);
+        return new Predicate<Loan>() {
+            private long foundAtModificationCount = -1;
+            private Set<Loan> found;
+
+            @Override
+            public boolean test(Loan loan) {
+                if (foundAtModificationCount != modificationCount) {
+                    found = findAny(field, wordsCopy);
+                    foundAtModificationCount = modificationCount;
+                }
+                return found.contains(loan);
+            }
+        };
+    }
+
+    /**
+     * Returns the number of changes made to the index so far.
+     */
+    long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Adds the words of {@code loan}, which is being added to the list.
+     */
+    void add(Loan loan) {
+        for (Field field : Field.values()) {
+            Map<String, Posting> fieldPostings = postings.get(field);
+            BkTree tree = similarityTrees.get(field);
+            for (String word : getUnfoldedWords(loan, field)) {
+                fieldPostings.computeIfAbsent(foldCase(word), foldedWord -> {
+                    if (tree != null) {
+                        tree.add(foldedWord);
+                    }
+                    return new Posting(word);
+                }).loans.add(loan);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the words of {@code loan}, the instance that is being removed from the list.
+     */
+    void remove(Loan loan) {
+        for (Field field : Field.values()) {
+            Map<String, Posting> fieldPostings = postings.get(field);
+            for (String word : getUnfoldedWords(loan, field)) {
+                fieldPostings.computeIfPresent(foldCase(word), (unused, posting) -> {
+                    posting.loans.remove(loan);
+                    return posting.loans.isEmpty() ? null : posting;
+                });
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code other}.
+     */
+    void setAll(LoanIndex other) {
+        for (Field field : Field.values()) {
+            Map<String, Posting> fieldPostings = postings.get(field);
+            fieldPostings.clear();
+            other.postings.get(field).forEach((word, posting) -> {
+                Posting copy = new Posting(posting.word);
+                copy.loans.addAll(posting.loans);
+                fieldPostings.put(word, copy);
+            });
+        }
+        similarityTrees.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns the loans whose {@code field} contains a word within the greatest distance given in {@code maxDistances}
+     * of any of its words, with the least such distance.
+     */
+    private Map<Loan, Integer> findDistances(Field field, Map<String, Integer> maxDistances) {
+        Map<Loan, Integer> distances = new IdentityHashMap<>();
+        for (Map.Entry<String, Integer> word : maxDistances.entrySet()) {
+            if (word.getValue() == 0) {
+                for (Loan loan : getLoans(field, word.getKey())) {
+                    distances.put(loan, 0);
+                }
+                continue;
+            }
+            for (Map.Entry<String, Integer> similarWord
+                    : findSimilarWords(field, word.getKey(), word.getValue()).entrySet()) {
+                for (Loan loan : postings.get(field).get(similarWord.getKey()).loans) {
+                    distances.merge(loan, similarWord.getValue(), Math::min);
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the case-folded words of {@code field} in {@code loan}, as they are indexed.
+     */
+    public static List<String> getWords(Loan loan, Field field) {
+        return Collections.unmodifiableList(Arrays.asList(loan.getSearchWords(field)));
+    }
+
+    /**
+     * Returns the case-folded words of each field of {@code loan}, interned, by the ordinal of the field.
+     */
+    static String[][] getSearchWords(Loan loan) {
+        Field[] fields = Field.values();
+        String[][] words = new String[fields.length][];
+        for (Field field : fields) {
+            List<String> fieldWords = getUnfoldedWords(loan, field);
+            String[] foldedWords = new String[fieldWords.size()];
+            for (int i = 0; i < foldedWords.length; i++) {
+                foldedWords[i] = foldCase(fieldWords.get(i)).intern();
+            }
+            words[field.ordinal()] = foldedWords;
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code word} in the case that the index holds words in.
+     */
+    public static String foldCase(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the words of {@code field} in {@code loan}, as they are spelt in the loan.
+     */
+    private static List<String> getUnfoldedWords(Loan loan, Field field) {
+        switch (field) {
+        case NAME:
+            return splitWords(loan.getName().value);
+        case PHONE:
+            return splitWords(loan.getPhone().value);
+        case ADDRESS:
+            return splitWords(loan.getAddress().value);
+        case EMAIL:
+            List<String> words = splitWords(loan.getEmail().value);
+            words.add(loan.getEmail().value);
+            return words;
+        case TAG:
+            List<String> tagWords = new ArrayList<>();
+            for (Tag tag : loan.getTags()) {
+                tagWords.addAll(splitWords(tag.value));
+            }
+            return tagWords;
+        default:
+            throw new AssertionError("Unknown field " + field);
+        }
+    }
+
+    /**
+     * Returns the runs of ASCII letters and digits in {@code text}.
+     */
+    private static List<String> splitWords(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && isAsciiLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * The loans that contain a word, and the word as spelt in the first of them to be indexed.
+     */
+    private static class Posting {
+        private final String word;
+        private final Set<Loan> loans = newLoanSet();
+
+        Posting(String word) {
+            this.word = word;
+        }
+    }
+
+    /**
+     * Returns an empty set of loans by identity, sized for a single loan, as most words are in only a few loans.
+     */
+    static Set<Loan> newLoanSet() {
+        return newLoanSet(1);
+    }
+
+    /**
+     * Returns an empty set of loans by identity, sized for {@code expectedSize} loans.
+     */
+    static Set<Loan> newLoanSet(int expectedSize) {
+        return Collections.newSetFromMap(new IdentityHashMap<>(expectedSize));
+    }
+}
@@ -0,0 +1,454 @@
+package seedu.address.model.loan;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.loan.LoanIndex.Field;
+
+/**
+ * A query over the indexed fields of loans, made of words to match in a field, combined by AND, OR and NOT.
+ *
+ * Testing a loan against a query checks its fields directly. To filter the whole list, {@link #using} instead looks
+ * the loans matching the query up in the word index where it can: a word is a posting list, and an OR is the union of
+ * its parts if all of them can be looked up. An AND starts from the part estimated to match the fewest loans, and
+ * narrows those candidates down with each other part, either by intersecting them with the loans it matches or, where
+ * looking those up would cost more or is not possible, as for a NOT, by testing each candidate against it. Only a
+ * query that cannot be narrowed down by the index at all is tested against every loan. Loans are tested by finding
+ * them in the posting lists of the words to match, rather than by splitting their fields into words, where possible.
+ */
+public abstract class LoanQuery implements Predicate<Loan> {
+
+    /**
+     * Cost of testing whether a loan has a word starting with a prefix, relative to that of finding a loan in a set, as
+     * the test splits a field of the loan into words.
+     */
+    private static final long PREFIX_TEST_COST = 4;
+
+    /**
+     * Returns a query matching the loans whose {@code field} contains {@code word}, ignoring case.
+     */
+    public static LoanQuery word(Field field, String word) {
+        requireAllNonNull(field, word);
+        return new WordQuery(field, word, false);
+    }
+
+    /**
+     * Returns a query matching the loans whose {@code field} contains a word starting with {@code prefix}, ignoring
+     * case.
+     */
+    public static LoanQuery wordPrefix(Field field, String prefix) {
+        requireAllNonNull(field, prefix);
+        return new WordQuery(field, prefix, true);
+    }
+
+    /**
+     * Returns a query matching the loans that match every one of {@code queries}.
+     */
+    public static LoanQuery and(List<LoanQuery> queries) {
+        requireNonNull(queries);
+        return queries.size() == 1 ? queries.get(0) : new AndQuery(queries);
+    }
+
+    /**
+     * Returns a query matching the loans that match any of {@code queries}.
+     */
+    public static LoanQuery or(List<LoanQuery> queries) {
+        requireNonNull(queries);
+        return queries.size() == 1 ? queries.get(0) : new OrQuery(queries);
+    }
+
+    /**
+     * Returns a query matching the loans that do not match {@code query}.
+     */
+    public static LoanQuery not(LoanQuery query) {
+        requireNonNull(query);
+        return new NotQuery(query);
+    }
+
+    /**
+     * Returns a predicate equivalent to this query that looks the matching loans up in {@code index}, which must be the
+     * index of the loans that the predicate will be tested on.
+     * The loans are looked up again only after the index changes, like those of {@link LoanIndex#matchingAny}.
+     */
+    public Predicate<Loan> using(LoanIndex index) {
+        requireNonNull(index);
+        return new Predicate<Loan>() {
+            private long foundAtModificationCount = -1;
+            private Set<Loan> found;
+
+            @Override
+            public boolean test(Loan loan) {
+                if (foundAtModificationCount != index.getModificationCount()) {
+                    found = find(index);
+                    foundAtModificationCount = index.getModificationCount();
+                }
+                return found == null ? matches(loan, index) : found.contains(loan);
+            }
+        };
+    }
+
+    /**
+     * Returns the loans in the list of {@code index} that match this query, looked up in the index, or null if they
+     * cannot be told apart from the others without testing every loan.
+     * The set returned may be a view of the index, which must not be changed.
+     */
+    abstract Set<Loan> find(LoanIndex index);
+
+    /**
+     * Returns an estimate of the number of loans that {@link #find} would return, or {@code limit} if there are at
+     * least that many. Returns {@code Long.MAX_VALUE} if the loans cannot be looked up.
+     */
+    abstract long estimateSize(LoanIndex index, long limit);
+
+    /**
+     * Returns true if {@code loan}, which must be in the list of {@code index}, matches this query. Equivalent to
+     * {@link #test}, but finds the loan in the posting lists of the words to match instead of in its fields where it
+     * can, which is quicker.
+     */
+    abstract boolean matches(Loan loan, LoanIndex index);
+
+    /**
+     * Returns the cost of {@link #matches}, relative to that of finding a loan in a set.
+     */
+    abstract long getMatchCost();
+
+    /**
+     * Returns true if this query looks up a single posting list, which takes no time.
+     */
+    boolean isPostingList() {
+        return false;
+    }
+
+    /**
+     * Matches the loans with a word, or a word starting with a prefix, in a field.
+     */
+    private static class WordQuery extends LoanQuery {
+        private final Field field;
+        private final String word;
+        private final boolean isPrefix;
+
+        WordQuery(Field field, String word, boolean isPrefix) {
+            this.field = field;
+            this.word = LoanIndex.foldCase(word).intern();
+            this.isPrefix = isPrefix;
+        }
+
+        @Override
+        public boolean test(Loan loan) {
+            for (String loanWord : loan.getSearchWords(field)) {
+                if (isPrefix ? loanWord.startsWith(word) : loanWord == word) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        boolean matches(Loan loan, LoanIndex index) {
+            return isPrefix ? test(loan) : index.getLoans(field, word).contains(loan);
+        }
+
+        @Override
+        long getMatchCost() {
+            return isPrefix ? PREFIX_TEST_COST : 1;
+        }
+
+        @Override
+        Set<Loan> find(LoanIndex index) {
+            return isPrefix ? index.findPrefixed(field, word) : index.getLoans(field, word);
+        }
+
+        @Override
+        long estimateSize(LoanIndex index, long limit) {
+            return isPrefix
+                    ? index.countPrefixed(field, word, limit)
+                    : Math.min(index.getLoans(field, word).size(), limit);
+        }
+
+        @Override
+        boolean isPostingList() {
+            return !isPrefix;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof WordQuery
+                    && field == ((WordQuery) other).field
+                    && word.equals(((WordQuery) other).word)
+                    && isPrefix == ((WordQuery) other).isPrefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, word, isPrefix);
+        }
+
+        @Override
+        public String toString() {
+            return field + ":" + word + (isPrefix ? "*" : "");
+        }
+    }
+
+    /**
+     * Matches the loans that match all of its queries.
+     */
+    private static class AndQuery extends LoanQuery {
+        private final List<LoanQuery> queries;
+
+        AndQuery(List<LoanQuery> queries) {
+            this.queries = new ArrayList<>(queries);
+        }
+
+        @Override
+        public boolean test(Loan loan) {
+            return queries.stream().allMatch(query -> query.test(loan));
+        }
+
+        @Override
+        boolean matches(Loan loan, LoanIndex index) {
+            for (LoanQuery query : queries) {
+                if (!query.matches(loan, index)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        long getMatchCost() {
+            return queries.stream().mapToLong(LoanQuery::getMatchCost).sum();
+        }
+
+        @Override
+        Set<Loan> find(LoanIndex index) {
+            List<LoanQuery> postingLists = new ArrayList<>();
+            List<LoanQuery> others = new ArrayList<>();
+            for (LoanQuery query : queries) {
+                if (query.isPostingList()) {
+                    postingLists.add(query);
+                } else {
+                    others.add(query);
+                }
+            }
+            postingLists.sort(Comparator.comparingLong(query -> query.estimateSize(index, Long.MAX_VALUE)));
+            LoanQuery seedQuery = postingLists.isEmpty() ? getSmallestEstimate(index, others) : postingLists.get(0);
+            Set<Loan> seed = seedQuery == null ? null : seedQuery.find(index);
+            if (seed == null) {
+                return null;
+            }
+            postingLists.remove(seedQuery);
+            others.remove(seedQuery);
+
+            List<Set<Loan>> otherPostingLists = new ArrayList<>();
+            for (LoanQuery query : postingLists) {
+                otherPostingLists.add(query.find(index));
+            }
+            List<Loan> candidates = new ArrayList<>();
+            for (Loan loan : seed) {
+                if (isInAll(loan, otherPostingLists)) {
+                    candidates.add(loan);
+                }
+            }
+            for (LoanQuery query : others) {
+                long matchCost = candidates.size() * query.getMatchCost();
+                Set<Loan> found = query.estimateSize(index, matchCost) < matchCost ? query.find(index) : null;
+                candidates.removeIf(loan -> found == null ? !query.matches(loan, index) : !found.contains(loan));
+            }
+
+            Set<Loan> matches = LoanIndex.newLoanSet(candidates.size());
+            matches.addAll(candidates);
+            return matches;
+        }
+
+        @Override
+        long estimateSize(LoanIndex index, long limit) {
+            long estimate = limit;
+            for (LoanQuery query : queries) {
+                estimate = Math.min(estimate, query.estimateSize(index, estimate));
+            }
+            return estimate;
+        }
+
+        /**
+         * Returns true if {@code loan} is in every one of {@code postingLists}.
+         */
+        private static boolean isInAll(Loan loan, List<Set<Loan>> postingLists) {
+            for (Set<Loan> postingList : postingLists) {
+                if (!postingList.contains(loan)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the one of {@code queries} estimated to match the fewest loans, or null if none of them can be looked
+         * up. Each query is only counted up to the smallest estimate so far.
+         */
+        private static LoanQuery getSmallestEstimate(LoanIndex index, List<LoanQuery> queries) {
+            LoanQuery smallest = null;
+            long smallestEstimate = Long.MAX_VALUE;
+            for (LoanQuery query : queries) {
+                long estimate = query.estimateSize(index, smallestEstimate);
+                if (estimate < smallestEstimate) {
+                    smallest = query;
+                    smallestEstimate = estimate;
+                }
+            }
+            return smallest;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof AndQuery && queries.equals(((AndQuery) other).queries));
+        }
+
+        @Override
+        public int hashCode() {
+            return queries.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return queries.stream().map(Object::toString).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    /**
+     * Matches the loans that match any of its queries.
+     */
+    private static class OrQuery extends LoanQuery {
+        private final List<LoanQuery> queries;
+
+        OrQuery(List<LoanQuery> queries) {
+            this.queries = new ArrayList<>(queries);
+        }
+
+        @Override
+        public boolean test(Loan loan) {
+            return queries.stream().anyMatch(query -> query.test(loan));
+        }
+
+        @Override
+        boolean matches(Loan loan, LoanIndex index) {
+            for (LoanQuery query : queries) {
+                if (query.matches(loan, index)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        long getMatchCost() {
+            return queries.stream().mapToLong(LoanQuery::getMatchCost).sum();
+        }
+
+        @Override
+        long estimateSize(LoanIndex index, long limit) {
+            long estimate = 0;
+            for (LoanQuery query : queries) {
+                long queryEstimate = query.estimateSize(index, limit - estimate);
+                if (queryEstimate == Long.MAX_VALUE) {
+                    return Long.MAX_VALUE;
+                }
+                estimate += queryEstimate;
+                if (estimate >= limit) {
+                    return limit;
+                }
+            }
+            return estimate;
+        }
+
+        @Override
+        Set<Loan> find(LoanIndex index) {
+            Set<Loan> union = LoanIndex.newLoanSet();
+            for (LoanQuery query : queries) {
+                Set<Loan> found = query.find(index);
+                if (found == null) {
+                    return null;
+                }
+                union.addAll(found);
+            }
+            return union;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof OrQuery && queries.equals(((OrQuery) other).queries));
+        }
+
+        @Override
+        public int hashCode() {
+            return queries.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return queries.stream().map(Object::toString).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+
+    /**
+     * Matches the loans that do not match its query. The index cannot narrow these down on its own.
+     */
+    private static class NotQuery extends LoanQuery {
+        private final LoanQuery query;
+
+        NotQuery(LoanQuery query) {
+            this.query = query;
+        }
+
+        @Override
+        public boolean test(Loan loan) {
+            return !query.test(loan);
+        }
+
+        @Override
+        boolean matches(Loan loan, LoanIndex index) {
+            return !query.matches(loan, index);
+        }
+
+        @Override
+        long getMatchCost() {
+            return query.getMatchCost();
+        }
+
+        @Override
+        Set<Loan> find(LoanIndex index) {
+            return null;
+        }
+
+        @Override
+        long estimateSize(LoanIndex index, long limit) {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof NotQuery && query.equals(((NotQuery) other).query));
+        }
+
+        @Override
+        public int hashCode() {
+            return query.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + query;
+        }
+    }
+}
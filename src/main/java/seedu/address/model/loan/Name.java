@@ -1,6 +1,7 @@
 package seedu.address.model.loan;
 
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Loan's name in the loan book.
@@ -11,6 +12,8 @@ public class Name extends DataField<String> {
     public static final String MESSAGE_NAME_CONSTRAINTS =
         "Names should only contain alphanumeric characters and spaces, and it should not be blank";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile("[\\p{Alnum}][\\p{Alnum} ]*");
+
     /**
      * Constructs a {@code Name}.
      *
@@ -28,7 +31,7 @@ public class Name extends DataField<String> {
          * The first character of the name must not be a whitespace,
          * otherwise " " (a blank string) becomes a valid input.
          */
-        return objString.matches("[\\p{Alnum}][\\p{Alnum} ]*");
+        return VALIDATION_PATTERN.matcher(objString).matches();
     }
 
 }
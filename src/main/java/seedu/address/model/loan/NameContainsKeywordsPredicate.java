@@ -1,24 +1,120 @@
 package seedu.address.model.loan;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import seedu.address.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Loan}'s {@code Name} matches any of the keywords given.
+ * A keyword starting with {@link #SIMILAR_KEYWORD_MARKER} also matches the words of a name that are within a small
+ * edit distance of the rest of it, so that a misspelt name is still found.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Loan> {
+
+    public static final String SIMILAR_KEYWORD_MARKER = "~";
+
+    /** Greatest edit distance of a word similar to a keyword of up to {@code SHORT_KEYWORD_LENGTH} characters. */
+    private static final int SHORT_KEYWORD_MAX_DISTANCE = 1;
+    /** Greatest edit distance of a word similar to a longer keyword. */
+    private static final int LONG_KEYWORD_MAX_DISTANCE = 2;
+    private static final int SHORT_KEYWORD_LENGTH = 3;
+
     private final List<String> keywords;
+    /** Case-folded, interned keywords that must match a word of the name exactly. */
+    private final String[] exactWords;
+    /** Case-folded keywords that match similar words of the name, without the marker. */
+    private final String[] similarWords;
+    /** Greatest edit distance of a word similar to each of {@code similarWords}. */
+    private final int[] similarMaxDistances;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        List<String> exact = new ArrayList<>();
+        List<String> similar = new ArrayList<>();
+        for (String keyword : keywords) {
+            if (isSimilarKeyword(keyword)) {
+                similar.add(LoanIndex.foldCase(getWord(keyword)));
+            } else {
+                exact.add(LoanIndex.foldCase(keyword).intern());
+            }
+        }
+        exactWords = exact.toArray(new String[0]);
+        similarWords = similar.toArray(new String[0]);
+        similarMaxDistances = new int[similarWords.length];
+        for (int i = 0; i < similarWords.length; i++) {
+            similarMaxDistances[i] = getMaxDistance(similarWords[i]);
+        }
+    }
+
+    /**
+     * Returns true if any of the keywords only needs to match a similar word.
+     */
+    public boolean hasSimilarKeywords() {
+        return keywords.stream().anyMatch(NameContainsKeywordsPredicate::isSimilarKeyword);
+    }
+
+    /**
+     * Returns a predicate equivalent to this one that looks the keywords up in {@code index}, which must be the index
+     * of the loans that the predicate will be tested on, instead of searching the name of every loan for them.
+     */
+    public Predicate<Loan> using(LoanIndex index) {
+        if (!hasSimilarKeywords()) {
+            return index.matchingAny(LoanIndex.Field.NAME, keywords);
+        }
+        ToIntFunction<Loan> distance = distanceUsing(index);
+        return loan -> distance.applyAsInt(loan) >= 0;
     }
 
+    /**
+     * Returns a function from a loan to the least edit distance between a word of its name and a keyword that it
+     * matches, or to -1 if the loan does not match, looked up in {@code index} like {@link #using}.
+     * A keyword without the marker only matches a word at a distance of 0.
+     */
+    public ToIntFunction<Loan> distanceUsing(LoanIndex index) {
+        Map<String, Integer> maxDistances = new HashMap<>();
+        for (String keyword : keywords) {
+            String word = getWord(keyword);
+            maxDistances.merge(word, isSimilarKeyword(keyword) ? getMaxDistance(word) : 0, Math::max);
+        }
+        return index.distanceToAny(LoanIndex.Field.NAME, maxDistances);
+    }
+
+    /**
+     * Matches the case-folded words of the name that the loan holds against the keywords, which were folded once, so
+     * that testing a loan allocates nothing unless a keyword is to match similar words.
+     */
     @Override
     public boolean test(Loan loan) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(loan.getName().value, keyword));
+        for (String nameWord : loan.getSearchWords(LoanIndex.Field.NAME)) {
+            for (String exactWord : exactWords) {
+                if (nameWord == exactWord) {
+                    return true;
+                }
+            }
+            for (int i = 0; i < similarWords.length; i++) {
+                if (StringUtil.getEditDistance(nameWord, similarWords[i]) <= similarMaxDistances[i]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSimilarKeyword(String keyword) {
+        return keyword.startsWith(SIMILAR_KEYWORD_MARKER);
+    }
+
+    private static String getWord(String keyword) {
+        return isSimilarKeyword(keyword) ? keyword.substring(SIMILAR_KEYWORD_MARKER.length()) : keyword;
+    }
+
+    private static int getMaxDistance(String word) {
+        return word.length() <= SHORT_KEYWORD_LENGTH ? SHORT_KEYWORD_MAX_DISTANCE : LONG_KEYWORD_MAX_DISTANCE;
     }
 
     @Override
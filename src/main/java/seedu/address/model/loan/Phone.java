@@ -1,6 +1,7 @@
 package seedu.address.model.loan;
 
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Loan's phone number in the loan book.
@@ -11,6 +12,8 @@ public class Phone extends DataField<String> {
     public static final String MESSAGE_PHONE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile("\\d{3,}");
+
     /**
      * Constructs a {@code Phone}.
      *
@@ -24,7 +27,7 @@ public class Phone extends DataField<String> {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String objString) {
-        return objString.matches("\\d{3,}");
+        return VALIDATION_PATTERN.matcher(objString).matches();
     }
 
 }
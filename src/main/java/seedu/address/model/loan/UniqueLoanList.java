@@ -1,13 +1,19 @@
 package seedu.address.model.loan;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicatePairs;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListDiffUtil;
 import seedu.address.model.loan.exceptions.DuplicateLoanException;
 import seedu.address.model.loan.exceptions.LoanNotFoundException;
 
@@ -18,6 +24,12 @@ import seedu.address.model.loan.exceptions.LoanNotFoundException;
  * unique in terms of identity in the UniqueLoanList. However, the removal of a loan uses Loan#equals(Object) so
  * as to ensure that the loan with exactly the same fields will be removed.
  *
+ * The identity fields of every loan in the list are also kept in hash indexes (name with phone, and name with
+ * email), so that checking for a loan with the same identity takes constant time instead of a scan of the list.
+ * The words in their other fields are kept in a {@code LoanIndex}, so that loans can be searched for by word without
+ * a scan of the list either. The word index is only built once it is first asked for, so lists that are never
+ * searched, such as those built while loading or saving a loan book, do not pay for it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Loan#isSameLoan(Loan)
@@ -26,12 +38,20 @@ public class UniqueLoanList implements Iterable<Loan> {
 
     private final ObservableList<Loan> internalList = FXCollections.observableArrayList();
 
+    /** Number of loans in {@code internalList} with each name and phone pair. */
+    private final Map<List<Object>, Integer> nameAndPhoneIndex = new HashMap<>();
+    /** Number of loans in {@code internalList} with each name and email pair. */
+    private final Map<List<Object>, Integer> nameAndEmailIndex = new HashMap<>();
+    /** Words in the fields of the loans in {@code internalList}, or null until it is first asked for. */
+    private LoanIndex wordIndex;
+
     /**
      * Returns true if the list contains an equivalent loan as the given argument.
      */
     public boolean contains(Loan toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameLoan);
+        return nameAndPhoneIndex.containsKey(nameAndPhoneKey(toCheck))
+                || nameAndEmailIndex.containsKey(nameAndEmailKey(toCheck));
     }
 
     /**
@@ -43,6 +63,7 @@ public class UniqueLoanList implements Iterable<Loan> {
         if (contains(toAdd)) {
             throw new DuplicateLoanException();
         }
+        addToIndex(toAdd);
         internalList.add(toAdd);
     }
 
@@ -63,6 +84,8 @@ public class UniqueLoanList implements Iterable<Loan> {
             throw new DuplicateLoanException();
         }
 
+        removeFromIndex(internalList.get(index));
+        addToIndex(editedLoan);
         internalList.set(index, editedLoan);
     }
 
@@ -72,27 +95,75 @@ public class UniqueLoanList implements Iterable<Loan> {
      */
     public void remove(Loan toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new LoanNotFoundException();
         }
+        removeFromIndex(internalList.get(index));
+        internalList.remove(index);
+    }
+
+    /**
+     * Replaces the {@code removedCount} loans starting at position {@code from} with {@code replacement}, firing
+     * only the list changes needed for that range.
+     * The loans in {@code replacement} must not have the same identity as each other or as any loan left in the list.
+     */
+    public void replaceRange(int from, int removedCount, List<Loan> replacement) {
+        requireAllNonNull(replacement);
+        List<Loan> removed = internalList.subList(from, from + removedCount);
+        if (!reindex(removed, replacement)) {
+            throw new DuplicateLoanException();
+        }
+        replaceInternalRange(from, removedCount, replacement);
     }
 
     public void setLoans(UniqueLoanList replacement) {
         requireNonNull(replacement);
+        nameAndPhoneIndex.clear();
+        nameAndPhoneIndex.putAll(replacement.nameAndPhoneIndex);
+        nameAndEmailIndex.clear();
+        nameAndEmailIndex.putAll(replacement.nameAndEmailIndex);
+        if (wordIndex != null) {
+            wordIndex.setAll(replacement.getWordIndex());
+        }
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code loans}.
      * {@code loans} must not contain duplicate loans.
+     *
+     * Only the loans that differ between this list and {@code loans} are validated and replaced, through the
+     * smallest list changes found by {@code ListDiffUtil#diff}, so that views of this list are not rebuilt in full.
+     * When there are several changes, every loan to be removed is removed before any is added, so that a loan that
+     * moves is never in the list twice, even between changes.
      */
     public void setLoans(List<Loan> loans) {
         requireAllNonNull(loans);
-        if (!loansAreUnique(loans)) {
-            throw new DuplicateLoanException();
+        List<ListDiffUtil.Edit<Loan>> edits = ListDiffUtil.diff(internalList, loans);
+        List<Loan> removed = new ArrayList<>();
+        List<Loan> added = new ArrayList<>();
+        for (ListDiffUtil.Edit<Loan> edit : edits) {
+            int sourcePosition = edit.getSourcePosition();
+            removed.addAll(internalList.subList(sourcePosition, sourcePosition + edit.getRemovedCount()));
+            added.addAll(edit.getAdded());
+        }
+        if (!reindex(removed, added)) {
+            throw new DuplicateLoanException(findDuplicateLoans(loans));
         }
 
-        internalList.setAll(loans);
+        if (edits.size() == 1) {
+            ListDiffUtil.Edit<Loan> edit = edits.get(0);
+            replaceInternalRange(edit.getPosition(), edit.getRemovedCount(), edit.getAdded());
+            return;
+        }
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            ListDiffUtil.Edit<Loan> edit = edits.get(i);
+            internalList.remove(edit.getSourcePosition(), edit.getSourcePosition() + edit.getRemovedCount());
+        }
+        for (ListDiffUtil.Edit<Loan> edit : edits) {
+            internalList.addAll(edit.getPosition(), edit.getAdded());
+        }
     }
 
     /**
@@ -102,6 +173,18 @@ public class UniqueLoanList implements Iterable<Loan> {
         return FXCollections.unmodifiableObservableList(internalList);
     }
 
+    /**
+     * Returns the index of the words in the fields of the loans in this list, which follows changes to the list.
+     * Builds the index if this is the first time it is asked for.
+     */
+    public LoanIndex getWordIndex() {
+        if (wordIndex == null) {
+            wordIndex = new LoanIndex();
+            internalList.forEach(wordIndex::add);
+        }
+        return wordIndex;
+    }
+
     @Override
     public Iterator<Loan> iterator() {
         return internalList.iterator();
@@ -120,16 +203,77 @@ public class UniqueLoanList implements Iterable<Loan> {
     }
 
     /**
-     * Returns true if {@code loans} contains only unique loans.
+     * Moves the loans {@code removed} out of the identity indexes and the loans {@code added} into them, unless that
+     * would leave two loans with the same identity, in which case the indexes are left unchanged.
+     * Returns true if the indexes were changed.
      */
-    private boolean loansAreUnique(List<Loan> loans) {
-        for (int i = 0; i < loans.size() - 1; i++) {
-            for (int j = i + 1; j < loans.size(); j++) {
-                if (loans.get(i).isSameLoan(loans.get(j))) {
-                    return false;
-                }
+    private boolean reindex(List<Loan> removed, List<Loan> added) {
+        removed.forEach(this::removeFromIndex);
+        for (int i = 0; i < added.size(); i++) {
+            if (contains(added.get(i))) {
+                added.subList(0, i).forEach(this::removeFromIndex);
+                removed.forEach(this::addToIndex);
+                return false;
             }
+            addToIndex(added.get(i));
         }
         return true;
     }
+
+    /**
+     * Replaces the {@code removedCount} loans of {@code internalList} starting at {@code from} with
+     * {@code replacement}, in as few list changes as possible.
+     */
+    private void replaceInternalRange(int from, int removedCount, List<Loan> replacement) {
+        if (removedCount == internalList.size()) {
+            internalList.setAll(replacement);
+        } else if (removedCount == 1 && replacement.size() == 1) {
+            internalList.set(from, replacement.get(0));
+        } else {
+            internalList.remove(from, from + removedCount);
+            internalList.addAll(from, replacement);
+        }
+    }
+
+    /**
+     * Records the identity fields and words of {@code loan}, which is about to be added to {@code internalList}.
+     * The indexes are always updated before {@code internalList}, so that listeners of the list see them up to date.
+     */
+    private void addToIndex(Loan loan) {
+        nameAndPhoneIndex.merge(nameAndPhoneKey(loan), 1, Integer::sum);
+        nameAndEmailIndex.merge(nameAndEmailKey(loan), 1, Integer::sum);
+        if (wordIndex != null) {
+            wordIndex.add(loan);
+        }
+    }
+
+    /**
+     * Forgets the identity fields and words of {@code loan}, the instance that is about to be removed from
+     * {@code internalList}.
+     */
+    private void removeFromIndex(Loan loan) {
+        nameAndPhoneIndex.computeIfPresent(nameAndPhoneKey(loan), (key, count) -> count == 1 ? null : count - 1);
+        nameAndEmailIndex.computeIfPresent(nameAndEmailKey(loan), (key, count) -> count == 1 ? null : count - 1);
+        if (wordIndex != null) {
+            wordIndex.remove(loan);
+        }
+    }
+
+    private static List<Object> nameAndPhoneKey(Loan loan) {
+        return Arrays.asList(loan.getName(), loan.getPhone());
+    }
+
+    private static List<Object> nameAndEmailKey(Loan loan) {
+        return Arrays.asList(loan.getName(), loan.getEmail());
+    }
+
+    /**
+     * Returns every pair of loans in {@code loans} with the same identity, as the earlier loan mapped to the later one.
+     * Takes time linear in the size of {@code loans} and the number of pairs found.
+     *
+     * @see seedu.address.commons.util.CollectionUtil#findDuplicatePairs
+     */
+    public static List<Map.Entry<Loan, Loan>> findDuplicateLoans(List<Loan> loans) {
+        return findDuplicatePairs(loans, UniqueLoanList::nameAndPhoneKey, UniqueLoanList::nameAndEmailKey);
+    }
 }
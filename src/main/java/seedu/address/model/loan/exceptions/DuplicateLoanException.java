@@ -1,11 +1,38 @@
 package seedu.address.model.loan.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.loan.Loan;
+
 /**
  * Signals that the operation will result in duplicate Loans (Loans are considered duplicates if they have the same
  * identity).
  */
 public class DuplicateLoanException extends RuntimeException {
+    private final List<Map.Entry<Loan, Loan>> duplicatePairs;
+
     public DuplicateLoanException() {
         super("Operation would result in duplicate loans");
+        duplicatePairs = Collections.emptyList();
+    }
+
+    /**
+     * @param duplicatePairs every pair of loans with the same identity that the operation would have produced
+     */
+    public DuplicateLoanException(List<Map.Entry<Loan, Loan>> duplicatePairs) {
+        super("Operation would result in duplicate loans: " + duplicatePairs.stream()
+                .map(pair -> pair.getKey().getName() + " and " + pair.getValue().getName())
+                .collect(Collectors.joining("; ")));
+        this.duplicatePairs = Collections.unmodifiableList(duplicatePairs);
+    }
+
+    /**
+     * Returns every pair of loans with the same identity, if they are known.
+     */
+    public List<Map.Entry<Loan, Loan>> getDuplicatePairs() {
+        return duplicatePairs;
     }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.tag;
 
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import seedu.address.model.loan.DataField;
 
@@ -13,8 +14,10 @@ public class Tag extends DataField<String> {
 
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile("\\p{Alnum}+");
+
     public static final Predicate<String> VALIDITY_PREDICATE =
-        test -> test.matches("\\p{Alnum}+");
+        test -> VALIDATION_PATTERN.matcher(test).matches();
 
     /**
      * Constructs a {@code Tag}.
@@ -0,0 +1,409 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.model.LoanBook;
+import seedu.address.model.loan.Address;
+import seedu.address.model.loan.Email;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.Name;
+import seedu.address.model.loan.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads a loan book from a file written by {@code BinaryLoanBookWriter}.
+ *
+ * The file is mapped into memory and read in a single pass. Each distinct address and tag in the string table is
+ * validated and turned into a model object only once, however many loans share it. The mapping is released as soon
+ * as the file has been read, so that it can be saved over straight after, even on Windows.
+ *
+ * The checksum of the whole file is verified before anything in it is used, in a single pass over the mapped file.
+ * When it does not match, {@link #recover(Path)} can still read the loans whose own checksums match.
+ */
+public class BinaryLoanBookReader {
+
+    public static final String MESSAGE_NOT_BINARY_LOAN_BOOK = "File is not a binary loan book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary loan book version %1$d is not supported.";
+    public static final String MESSAGE_INVALID_STRING_INDEX = "Loan refers to string %1$d of a table of %2$d.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Checksum of the %1$s does not match its contents.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryLoanBookReader.class);
+
+    /**
+     * {@code sun.misc.Unsafe} and its {@code invokeCleaner} method, which unmaps a mapped buffer, or null if the
+     * running JDK does not have them. They are found by reflection, as naming them in the source makes every
+     * compilation warn of an internal API.
+     */
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.fine("Mapped binary loan books are only unmapped by the garbage collector: " + e);
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final ByteBuffer buffer;
+    private boolean hasChecksums;
+    private int loanCount;
+    private byte[] stringBytes = new byte[64];
+    private String[] strings;
+    private Address[] addresses;
+    private Tag[] tags;
+
+    private BinaryLoanBookReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns the loan book in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not a valid binary loan book.
+     */
+    public static LoanBook read(Path file) throws DataConversionException, FileNotFoundException {
+        requireNonNull(file);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        BinaryLoanBookReader reader = null;
+        try {
+            reader = map(file);
+            return reader.readLoanBook();
+        } catch (IllegalValueException | IOException | BufferUnderflowException | IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        } finally {
+            if (reader != null) {
+                reader.unmap();
+            }
+        }
+    }
+
+    /**
+     * Returns the loans of {@code file} that are intact, for a file that {@link #read(Path)} finds corrupted.
+     * A loan is left out if its checksum does not match, if it is invalid, or if it is a duplicate of a loan before it.
+     * The loans after one whose length is corrupted cannot be found, and are left out too. Files of a version without
+     * checksums are read up to their first invalid loan.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the header or the string table of the file is corrupted.
+     */
+    public static LoanBook recover(Path file) throws DataConversionException, FileNotFoundException {
+        requireNonNull(file);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        BinaryLoanBookReader reader = null;
+        try {
+            reader = map(file);
+            return reader.recoverLoanBook();
+        } catch (IllegalValueException | IOException | BufferUnderflowException | IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        } finally {
+            if (reader != null) {
+                reader.unmap();
+            }
+        }
+    }
+
+    /**
+     * Returns a reader of {@code file}, mapped into memory, or decompressed into the heap if it is compressed.
+     * A reader that is done with the file must be {@link #unmap() unmapped}, unless it is kept for a lazy list.
+     */
+    private static BinaryLoanBookReader map(Path file) throws IOException {
+        if (CompressionUtil.isCompressed(file)) {
+            try (InputStream in = CompressionUtil.decompress(new BufferedInputStream(Files.newInputStream(file)))) {
+                return new BinaryLoanBookReader(ByteBuffer.wrap(in.readAllBytes()));
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new BinaryLoanBookReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Releases the mapping of the file now, rather than once the buffer is garbage collected, so that the file can be
+     * replaced or deleted as soon as it has been read, which Windows does not allow while any of it is mapped.
+     * The buffer must not be used again. Does nothing for a file decompressed into the heap, or if the running JDK
+     * offers no {@code sun.misc.Unsafe#invokeCleaner}, in which case the mapping is released by the garbage collector.
+     */
+    private void unmap() {
+        if (!(buffer instanceof MappedByteBuffer) || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.fine("Unable to unmap a binary loan book: " + e);
+        }
+    }
+
+    /**
+     * Reads the header and the string table, and moves to the first loan.
+     * Verifies the checksum of the whole file first, or only that of the header and the string table if
+     * {@code isRecovering}.
+     */
+    private void readHeader(boolean isRecovering) throws IllegalValueException {
+        if (buffer.remaining() < BinaryLoanBookWriter.HEADER_SIZE || buffer.getInt() != BinaryLoanBookWriter.MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_LOAN_BOOK);
+        }
+        int version = buffer.getInt();
+        if (version < 1 || version > BinaryLoanBookWriter.VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        hasChecksums = version >= BinaryLoanBookWriter.FIRST_CHECKSUMMED_VERSION;
+        int stringCount = buffer.getInt();
+        loanCount = buffer.getInt();
+        int stringTableOffset = buffer.getInt();
+        int loanTableOffset = buffer.getInt();
+
+        if (hasChecksums && isRecovering) {
+            verifyChecksum(0, loanTableOffset - Integer.BYTES, "header");
+        } else if (hasChecksums) {
+            verifyChecksum(0, buffer.limit() - Integer.BYTES, "file");
+        }
+
+        buffer.position(stringTableOffset);
+        strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            strings[i] = readString();
+        }
+        addresses = new Address[stringCount];
+        tags = new Tag[stringCount];
+
+        buffer.position(loanTableOffset);
+    }
+
+    /**
+     * Reads the header, the string table and the loans, in that order.
+     */
+    private LoanBook readLoanBook() throws IllegalValueException {
+        readHeader(false);
+        LoanBook loanBook = new LoanBook();
+        for (int i = 0; i < loanCount; i++) {
+            Loan loan = readLoanRecord(false);
+            if (loanBook.hasLoan(loan)) {
+                throw new IllegalValueException(XmlSerializableLoanBook.MESSAGE_DUPLICATE_LOAN);
+            }
+            loanBook.addLoan(loan);
+        }
+        return loanBook;
+    }
+
+    /**
+     * Reads the header and the string table, then every loan that is intact, skipping the others.
+     */
+    private LoanBook recoverLoanBook() throws IllegalValueException {
+        readHeader(true);
+        LoanBook loanBook = new LoanBook();
+        for (int i = 0; i < loanCount; i++) {
+            int next;
+            Loan loan;
+            try {
+                next = hasChecksums ? findNextLoanRecord() : -1;
+            } catch (IllegalValueException | BufferUnderflowException e) {
+                // the length of this loan is corrupted, so the loans after it cannot be found
+                break;
+            }
+            try {
+                loan = readLoanRecord(true);
+            } catch (IllegalValueException | BufferUnderflowException e) {
+                if (!hasChecksums) {
+                    break;
+                }
+                buffer.position(next);
+                continue;
+            }
+            if (!loanBook.hasLoan(loan)) {
+                loanBook.addLoan(loan);
+            }
+        }
+        return loanBook;
+    }
+
+    /**
+     * Returns the position of the loan after the one at the current position, which is left unchanged.
+     *
+     * @throws IllegalValueException if the length of the loan at the current position runs past the loans.
+     */
+    private int findNextLoanRecord() throws IllegalValueException {
+        int start = buffer.position();
+        int length = readVarInt();
+        long next = (long) buffer.position() + length + Integer.BYTES;
+        if (next > buffer.limit() - Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_LOAN_BOOK);
+        }
+        buffer.position(start);
+        return (int) next;
+    }
+
+    /**
+     * Reads the loan at the current position, along with the length and checksum around it in files that have them.
+     * The checksum of the loan is verified only if {@code isChecksumVerified}, as the file checksum already covers
+     * it otherwise.
+     *
+     * @throws IllegalValueException if the loan is corrupted or any field of it is invalid.
+     */
+    private Loan readLoanRecord(boolean isChecksumVerified) throws IllegalValueException {
+        if (!hasChecksums) {
+            return readLoan();
+        }
+        int length = readVarInt();
+        int start = buffer.position();
+        if ((long) length + Integer.BYTES > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_LOAN_BOOK);
+        }
+        if (isChecksumVerified) {
+            verifyChecksum(start, start + length, "loan");
+        }
+        Loan loan = readLoan();
+        if (buffer.position() != start + length) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_LOAN_BOOK);
+        }
+        buffer.getInt();
+        return loan;
+    }
+
+    /**
+     * Verifies that the bytes from {@code from} up to {@code to} have the CRC32C checksum stored at {@code to}.
+     *
+     * @throws IllegalValueException if the checksum does not match, naming the {@code part} of the file it covers.
+     */
+    private void verifyChecksum(int from, int to, String part) throws IllegalValueException {
+        if (from < 0 || to < from || to > buffer.limit() - Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_LOAN_BOOK);
+        }
+        ByteBuffer data = buffer.duplicate();
+        data.limit(to);
+        data.position(from);
+        CRC32C checksum = new CRC32C();
+        checksum.update(data);
+        if (buffer.getInt(to) != (int) checksum.getValue()) {
+            throw new IllegalValueException(String.format(MESSAGE_CHECKSUM_MISMATCH, part));
+        }
+    }
+
+    /**
+     * Reads the loan at the current position.
+     * Each field is validated once, by the constructor of its model type.
+     *
+     * @throws IllegalValueException if any field of the loan is invalid.
+     */
+    private Loan readLoan() throws IllegalValueException {
+        try {
+            Name name = new Name(readString());
+            Phone phone = new Phone(readString());
+            Email email = new Email(readString());
+            Address address = getAddress(readVarInt());
+
+            int tagCount = readVarInt();
+            Set<Tag> loanTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                loanTags.add(getTag(readVarInt()));
+            }
+            return new Loan(name, phone, email, address, loanTags);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage(), iae);
+        }
+    }
+
+    /**
+     * Returns the address held by string {@code index} of the string table, creating it the first time.
+     */
+    private Address getAddress(int index) throws IllegalValueException {
+        checkStringIndex(index);
+        if (addresses[index] == null) {
+            addresses[index] = new Address(strings[index]);
+        }
+        return addresses[index];
+    }
+
+    /**
+     * Returns the tag held by string {@code index} of the string table, creating it the first time.
+     */
+    private Tag getTag(int index) throws IllegalValueException {
+        checkStringIndex(index);
+        if (tags[index] == null) {
+            tags[index] = new Tag(strings[index]);
+        }
+        return tags[index];
+    }
+
+    private void checkStringIndex(int index) throws IllegalValueException {
+        if (index >= strings.length) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_STRING_INDEX, index, strings.length));
+        }
+    }
+
+    /**
+     * Reads a string written as its length in bytes followed by its UTF-8 bytes.
+     */
+    private String readString() throws IllegalValueException {
+        int length = readVarInt();
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (length > stringBytes.length) {
+            stringBytes = new byte[Math.max(length, 2 * stringBytes.length)];
+        }
+        buffer.get(stringBytes, 0, length);
+        return new String(stringBytes, 0, length, UTF_8);
+    }
+
+    /**
+     * Reads a non-negative integer written seven bits at a time, low bits first.
+     */
+    private int readVarInt() throws IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_NOT_BINARY_LOAN_BOOK);
+    }
+}
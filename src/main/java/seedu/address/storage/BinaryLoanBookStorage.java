@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyLoanBook;
+
+/**
+ * A class to access LoanBook data stored as a binary file on the hard disk, in the format of
+ * {@link BinaryLoanBookWriter}. The file may be compressed, which is detected when it is read.
+ */
+public class BinaryLoanBookStorage implements LoanBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryLoanBookStorage.class);
+
+    private Path filePath;
+    private final int compressionLevel;
+
+    public BinaryLoanBookStorage(Path filePath) {
+        this(filePath, CompressionUtil.UNCOMPRESSED);
+    }
+
+    /**
+     * Creates a storage that compresses the files it saves at {@code compressionLevel}.
+     *
+     * @see CompressionUtil#compress(java.io.OutputStream, int)
+     */
+    public BinaryLoanBookStorage(Path filePath, int compressionLevel) {
+        checkArgument(CompressionUtil.isValidCompressionLevel(compressionLevel),
+                CompressionUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+        this.filePath = filePath;
+        this.compressionLevel = compressionLevel;
+    }
+
+    public Path getLoanBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyLoanBook> readLoanBook() throws DataConversionException, IOException {
+        return readLoanBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readLoanBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not a valid binary loan book.
+     */
+    public Optional<ReadOnlyLoanBook> readLoanBook(Path filePath) throws DataConversionException,
+                                                                                 FileNotFoundException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("LoanBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryLoanBookReader.read(filePath));
+        } catch (DataConversionException dce) {
+            logger.info("Illegal values found in " + filePath + ": " + dce.getMessage());
+            throw dce;
+        }
+    }
+
+    /**
+     * Returns the loans of the file whose checksums still match, and which are valid.
+     */
+    @Override
+    public Optional<ReadOnlyLoanBook> recoverLoanBook() throws IOException {
+        try {
+            return Optional.of(BinaryLoanBookReader.recover(filePath));
+        } catch (DataConversionException dce) {
+            logger.warning("Unable to recover any loans from " + filePath + ": " + dce.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveLoanBook(ReadOnlyLoanBook loanBook) throws IOException {
+        saveLoanBook(loanBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveLoanBook(ReadOnlyLoanBook)}
+     * The file is replaced atomically, so it is never left partly written.
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveLoanBook(ReadOnlyLoanBook loanBook, Path filePath) throws IOException {
+        requireNonNull(loanBook);
+        requireNonNull(filePath);
+
+        FileUtil.replaceAtomically(filePath, file -> BinaryLoanBookWriter.write(loanBook, file, compressionLevel));
+    }
+
+}
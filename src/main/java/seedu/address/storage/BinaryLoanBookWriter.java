@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.model.ReadOnlyLoanBook;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes a loan book to a file in a compact binary format, read back by {@code BinaryLoanBookReader}.
+ *
+ * The file starts with a header of {@link #HEADER_SIZE} bytes: the magic number {@link #MAGIC}, the format
+ * {@link #VERSION}, the number of strings in the string table, the number of loans, and the offsets of the string
+ * table and of the first loan. The string table holds every distinct address and tag once. Each loan then holds its
+ * name, phone and email, the index of its address in the string table, its number of tags and the index of each tag.
+ *
+ * Strings are their length in bytes followed by their UTF-8 bytes, and every length, count and index is an unsigned
+ * variable-length integer of seven bits per byte, low bits first.
+ *
+ * Since version {@link #FIRST_CHECKSUMMED_VERSION}, the file carries CRC32C checksums, so that corruption can be
+ * detected without trusting any of the data. The string table is followed by a checksum of the header and the string
+ * table. Each loan is framed by its length in bytes before it and a checksum of it after, so that a corrupted loan can
+ * be skipped. The file ends with a checksum of everything before it.
+ */
+public class BinaryLoanBookWriter {
+
+    /** "LBKB" in ASCII. */
+    static final int MAGIC = 0x4C424B42;
+    static final int VERSION = 2;
+    static final int FIRST_CHECKSUMMED_VERSION = 2;
+    static final int HEADER_SIZE = 6 * Integer.BYTES;
+
+    /**
+     * Saves {@code loanBook} to {@code file}, replacing its contents.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void write(ReadOnlyLoanBook loanBook, Path file) throws IOException {
+        write(loanBook, file, CompressionUtil.UNCOMPRESSED);
+    }
+
+    /**
+     * Saves {@code loanBook} to {@code file}, replacing its contents, compressed at {@code compressionLevel}.
+     * A compressed file cannot be mapped into memory, so it is read back into the heap instead.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if there was an error writing to the file.
+     * @see CompressionUtil#compress(java.io.OutputStream, int)
+     */
+    public static void write(ReadOnlyLoanBook loanBook, Path file, int compressionLevel) throws IOException {
+        requireNonNull(loanBook);
+        requireNonNull(file);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        Map<String, Integer> stringIndices = new LinkedHashMap<>();
+        for (Loan loan : loanBook.getLoanList()) {
+            stringIndices.putIfAbsent(loan.getAddress().value, stringIndices.size());
+            for (Tag tag : loan.getTags()) {
+                stringIndices.putIfAbsent(tag.value, stringIndices.size());
+            }
+        }
+        ByteArrayOutputStream stringTable = new ByteArrayOutputStream();
+        DataOutputStream stringTableOut = new DataOutputStream(stringTable);
+        for (String string : stringIndices.keySet()) {
+            writeString(stringTableOut, string);
+        }
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerOut = new DataOutputStream(header);
+        headerOut.writeInt(MAGIC);
+        headerOut.writeInt(VERSION);
+        headerOut.writeInt(stringIndices.size());
+        headerOut.writeInt(loanBook.getLoanList().size());
+        headerOut.writeInt(HEADER_SIZE);
+        headerOut.writeInt(HEADER_SIZE + stringTable.size() + Integer.BYTES);
+        stringTable.writeTo(headerOut);
+
+        CRC32C fileChecksum = new CRC32C();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(CompressionUtil.compress(Files.newOutputStream(file), compressionLevel)),
+                fileChecksum))) {
+            header.writeTo(out);
+            out.writeInt(checksum(header.toByteArray()));
+
+            ByteArrayOutputStream loanBytes = new ByteArrayOutputStream();
+            DataOutputStream loanOut = new DataOutputStream(loanBytes);
+            for (Loan loan : loanBook.getLoanList()) {
+                loanBytes.reset();
+                writeLoan(loanOut, loan, stringIndices);
+                byte[] bytes = loanBytes.toByteArray();
+                writeVarInt(out, bytes.length);
+                out.write(bytes);
+                out.writeInt(checksum(bytes));
+            }
+            out.writeInt((int) fileChecksum.getValue());
+        }
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(bytes, 0, bytes.length);
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Writes the fields of {@code loan}, referring to its address and tags by their index in the string table.
+     */
+    private static void writeLoan(DataOutputStream out, Loan loan, Map<String, Integer> stringIndices)
+            throws IOException {
+        writeString(out, loan.getName().value);
+        writeString(out, loan.getPhone().value);
+        writeString(out, loan.getEmail().value);
+        writeVarInt(out, stringIndices.get(loan.getAddress().value));
+        writeVarInt(out, loan.getTags().size());
+        for (Tag tag : loan.getTags()) {
+            writeVarInt(out, stringIndices.get(tag.value));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the non-negative {@code value} in as few bytes as it needs, seven bits at a time.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
@@ -0,0 +1,474 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ListDiffUtil;
+import seedu.address.model.LoanBook;
+import seedu.address.model.ReadOnlyLoanBook;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.exceptions.DuplicateLoanException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access LoanBook data stored as an xml snapshot on the hard disk, plus a journal of the changes saved
+ * since that snapshot was written.
+ *
+ * Saving appends a single record holding the edits from the last saved loans to the new ones, so it writes an amount
+ * of data proportional to the change rather than to the loan book. Reading replays the journal on top of the snapshot.
+ * Once the journal grows past the compaction threshold, it is folded into a new snapshot on a background thread.
+ *
+ * A compaction first moves the journal aside, so that later saves go to a fresh journal, then writes the new snapshot
+ * next to the old one. The journal moved aside is deleted only once the new snapshot is complete, and only then does
+ * the new snapshot replace the old one. Whenever the process stops, the files left behind therefore hold the loan
+ * book as it was after some save, which {@link #readLoanBook(Path)} recovers. If a compaction fails instead, the
+ * next save logs why and writes a new snapshot in place of the snapshot and both journals.
+ */
+public class JournalledLoanBookStorage implements LoanBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalledLoanBookStorage.class);
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "loan-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Loans as last saved to or read from {@code filePath}, or null if there has been neither. */
+    private List<Loan> savedLoans;
+    private FileChannel journalChannel;
+    private long journalSize;
+    private Future<?> compaction;
+
+    public JournalledLoanBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that folds the journal into a new snapshot once it holds at least
+     * {@code compactionThreshold} bytes.
+     */
+    public JournalledLoanBookStorage(Path filePath, long compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getLoanBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the journals and the snapshot, once the compaction in progress, if any, has finished.
+     */
+    @Override
+    public synchronized List<Path> getLoanBookFiles() throws IOException {
+        awaitCompaction();
+        List<Path> files = new ArrayList<>();
+        for (Path file : new Path[] {getCompactingJournalPath(filePath), getJournalPath(filePath), filePath}) {
+            if (Files.exists(file)) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    @Override
+    public Optional<ReadOnlyLoanBook> readLoanBook() throws DataConversionException, IOException {
+        return readLoanBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readLoanBook()}
+     * @param filePath location of the snapshot. Cannot be null
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyLoanBook> readLoanBook(Path filePath) throws DataConversionException,
+                                                                                        IOException {
+        requireNonNull(filePath);
+        awaitCompaction();
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            closeJournal();
+        }
+        recoverSnapshot(filePath);
+
+        Path journal = getJournalPath(filePath);
+        Path compactingJournal = getCompactingJournalPath(filePath);
+        if (!Files.exists(filePath) && !Files.exists(journal) && !Files.exists(compactingJournal)) {
+            logger.info("LoanBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        List<Loan> loans = Files.exists(filePath)
+                ? new ArrayList<>(XmlLoanBookReader.read(filePath).getLoanList())
+                : new ArrayList<>();
+        if (Files.exists(compactingJournal)) {
+            replay(compactingJournal, loans);
+            if (isOwnFile) {
+                // left behind by a compaction that did not finish, which is completed from the loans it had
+                compaction = compactor.submit(() -> compact(new ArrayList<>(loans)));
+            }
+        }
+        long validJournalSize = Files.exists(journal) ? replay(journal, loans) : 0;
+
+        LoanBook loanBook = new LoanBook();
+        try {
+            loanBook.setLoans(loans);
+        } catch (DuplicateLoanException dle) {
+            throw new DataConversionException(dle);
+        }
+        if (isOwnFile) {
+            discardTornRecords(journal, validJournalSize);
+            savedLoans = loans;
+        }
+        return Optional.of(loanBook);
+    }
+
+    @Override
+    public void saveLoanBook(ReadOnlyLoanBook loanBook) throws IOException {
+        saveLoanBook(loanBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveLoanBook(ReadOnlyLoanBook)}
+     * Saving to a path other than this storage's own writes a plain xml snapshot there, without a journal.
+     * @param filePath location of the data. Cannot be null
+     */
+    public synchronized void saveLoanBook(ReadOnlyLoanBook loanBook, Path filePath) throws IOException {
+        requireNonNull(loanBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            FileUtil.replaceAtomically(filePath, file -> XmlLoanBookWriter.write(loanBook, file));
+            return;
+        }
+
+        List<Loan> loans = new ArrayList<>(loanBook.getLoanList());
+        boolean hasFailedCompaction = hasCompactionFailed()
+                || (compaction == null && Files.exists(getCompactingJournalPath(filePath)));
+        if (savedLoans == null || hasFailedCompaction) {
+            // a journal left by a failed compaction is folded into the new snapshot, and later compactions unblocked
+            replaceSnapshot(loans);
+        } else {
+            List<ListDiffUtil.Edit<Loan>> edits = ListDiffUtil.diff(savedLoans, loans);
+            if (!edits.isEmpty()) {
+                appendRecord(edits);
+            }
+        }
+        savedLoans = loans;
+
+        if (journalSize >= compactionThreshold && (compaction == null || compaction.isDone())
+                && !Files.exists(getCompactingJournalPath(filePath))) {
+            closeJournal();
+            Files.move(getJournalPath(filePath), getCompactingJournalPath(filePath), StandardCopyOption.ATOMIC_MOVE);
+            journalSize = 0;
+            compaction = compactor.submit(() -> compact(loans));
+        }
+    }
+
+    /**
+     * Returns true if the last compaction has finished and failed, leaving the journal it moved aside behind, and
+     * logs why it failed. A compaction still in progress is left to run.
+     */
+    private boolean hasCompactionFailed() {
+        if (compaction == null || !compaction.isDone()) {
+            return false;
+        }
+        try {
+            compaction.get();
+            return false;
+        } catch (InterruptedException | ExecutionException e) {
+            logger.warning("Failed to compact " + filePath + ", so the journals are folded into a new snapshot: "
+                    + (e instanceof ExecutionException ? e.getCause() : e));
+            return true;
+        } finally {
+            compaction = null;
+        }
+    }
+
+    /**
+     * Blocks until the compaction in progress, if any, has finished.
+     */
+    synchronized void awaitCompaction() throws IOException {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ie);
+        } catch (ExecutionException ee) {
+            logger.warning("Failed to compact " + filePath + ": " + ee.getCause());
+        } finally {
+            compaction = null;
+        }
+    }
+
+    static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    static Path getCompactingJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal.compacting");
+    }
+
+    static Path getNewSnapshotPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".new");
+    }
+
+    //// snapshots
+
+    /**
+     * Writes {@code loans} as the snapshot, in place of the old snapshot and every journal.
+     * The journals are deleted newest first and the snapshot is replaced atomically, so that the files left by an
+     * interrupted call still hold an earlier saved loan book.
+     */
+    private void replaceSnapshot(List<Loan> loans) throws IOException {
+        awaitCompaction();
+        closeJournal();
+        Files.deleteIfExists(getJournalPath(filePath));
+        Files.deleteIfExists(getCompactingJournalPath(filePath));
+        Files.deleteIfExists(getNewSnapshotPath(filePath));
+        FileUtil.replaceAtomically(filePath, file -> XmlLoanBookWriter.write(toLoanBook(loans), file));
+        journalSize = 0;
+    }
+
+    /**
+     * Folds the journal that was moved aside into a new snapshot of {@code loans}, the loans it ends with.
+     * Runs on the compactor thread, and touches no file that a save may use.
+     */
+    private Void compact(List<Loan> loans) throws IOException {
+        writeNewSnapshot(loans);
+        Files.delete(getCompactingJournalPath(filePath));
+        Files.move(getNewSnapshotPath(filePath), filePath, StandardCopyOption.ATOMIC_MOVE);
+        logger.fine("Compacted journal of " + filePath);
+        return null;
+    }
+
+    /**
+     * Writes {@code loans} as the new snapshot, which only appears once it is complete and on the disk.
+     */
+    private void writeNewSnapshot(List<Loan> loans) throws IOException {
+        LoanBook loanBook = toLoanBook(loans);
+        FileUtil.replaceAtomically(getNewSnapshotPath(filePath), file -> XmlLoanBookWriter.write(loanBook, file));
+    }
+
+    private static LoanBook toLoanBook(List<Loan> loans) {
+        LoanBook loanBook = new LoanBook();
+        loanBook.setLoans(loans);
+        return loanBook;
+    }
+
+    /**
+     * Completes or rolls back a compaction of the journal of {@code filePath} that was interrupted after it started
+     * writing the new snapshot.
+     */
+    private static void recoverSnapshot(Path filePath) throws IOException {
+        Path newSnapshot = getNewSnapshotPath(filePath);
+        if (!Files.exists(newSnapshot)) {
+            return;
+        }
+        if (Files.exists(getCompactingJournalPath(filePath))) {
+            Files.delete(newSnapshot);
+        } else {
+            Files.move(newSnapshot, filePath, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    //// journal records
+
+    /**
+     * Appends a record of {@code edits} to the journal, and forces it to the disk.
+     * A record is its length, the edits, and a checksum of the edits, so that a record cut short can be detected.
+     */
+    private void appendRecord(List<ListDiffUtil.Edit<Loan>> edits) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(bytes);
+        record.writeInt(edits.size());
+        for (ListDiffUtil.Edit<Loan> edit : edits) {
+            record.writeInt(edit.getPosition());
+            record.writeInt(edit.getRemovedCount());
+            record.writeInt(edit.getAdded().size());
+            for (Loan loan : edit.getAdded()) {
+                writeLoan(record, loan);
+            }
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.toByteArray());
+        ByteBuffer framed = ByteBuffer.allocate(Integer.BYTES + bytes.size() + Integer.BYTES);
+        framed.putInt(bytes.size()).put(bytes.toByteArray()).putInt((int) checksum.getValue()).flip();
+
+        if (journalChannel == null) {
+            journalChannel = FileChannel.open(getJournalPath(filePath), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        while (framed.hasRemaining()) {
+            journalChannel.write(framed);
+        }
+        journalChannel.force(false);
+        journalSize += framed.limit();
+    }
+
+    /**
+     * Applies the records of {@code journal} to {@code loans}, up to the first record that is cut short or fails its
+     * checksum. Returns the number of bytes taken by the records applied.
+     *
+     * @throws DataConversionException if an intact record holds an invalid loan or edit.
+     */
+    private static long replay(Path journal, List<Loan> loans) throws DataConversionException, IOException {
+        byte[] records = Files.readAllBytes(journal);
+        ByteBuffer buffer = ByteBuffer.wrap(records);
+        int validSize = 0;
+        while (buffer.remaining() >= Integer.BYTES) {
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining() - Integer.BYTES) {
+                break;
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(records, buffer.position(), length);
+            if (buffer.getInt(buffer.position() + length) != (int) checksum.getValue()) {
+                break;
+            }
+            applyRecord(new DataInputStream(new ByteArrayInputStream(records, buffer.position(), length)), loans);
+            buffer.position(buffer.position() + length + Integer.BYTES);
+            validSize = buffer.position();
+        }
+        return validSize;
+    }
+
+    /**
+     * Applies the edits of the record in {@code in} to {@code loans}.
+     */
+    private static void applyRecord(DataInputStream in, List<Loan> loans) throws DataConversionException {
+        try {
+            int editCount = in.readInt();
+            for (int i = 0; i < editCount; i++) {
+                int position = in.readInt();
+                int removedCount = in.readInt();
+                int addedCount = in.readInt();
+                List<Loan> added = new ArrayList<>();
+                for (int j = 0; j < addedCount; j++) {
+                    added.add(readLoan(in));
+                }
+                List<Loan> replaced = loans.subList(position, position + removedCount);
+                replaced.clear();
+                replaced.addAll(added);
+            }
+        } catch (IOException | IllegalValueException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes the fields of {@code loan} to {@code out}.
+     */
+    private static void writeLoan(DataOutputStream out, Loan loan) throws IOException {
+        writeString(out, loan.getName().value);
+        writeString(out, loan.getPhone().value);
+        writeString(out, loan.getEmail().value);
+        writeString(out, loan.getAddress().value);
+        out.writeInt(loan.getTags().size());
+        for (Tag tag : loan.getTags()) {
+            writeString(out, tag.value);
+        }
+    }
+
+    /**
+     * Writes {@code string} as its length in bytes followed by its UTF-8 bytes, so that it may be of any length,
+     * unlike with {@code writeUTF}.
+     */
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString} from {@code in}.
+     */
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new EOFException("String of " + length + " bytes runs past the end of the record");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Reads a loan written by {@link #writeLoan} from {@code in}.
+     *
+     * @throws IllegalValueException if the fields read do not make a valid loan.
+     */
+    private static Loan readLoan(DataInputStream in) throws IOException, IllegalValueException {
+        String name = readString(in);
+        String phone = readString(in);
+        String email = readString(in);
+        String address = readString(in);
+        int tagCount = in.readInt();
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tagged.add(new XmlAdaptedTag(readString(in)));
+        }
+        return new XmlAdaptedLoan(name, phone, email, address, tagged).toModelType();
+    }
+
+    /**
+     * Cuts {@code journal} down to its first {@code validSize} bytes, so that new records are not appended after a
+     * record that was cut short.
+     */
+    private void discardTornRecords(Path journal, long validSize) throws IOException {
+        journalSize = validSize;
+        if (!Files.exists(journal) || Files.size(journal) == validSize) {
+            return;
+        }
+        logger.warning("Discarding " + (Files.size(journal) - validSize) + " unreadable bytes at the end of "
+                + journal);
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            channel.truncate(validSize);
+        }
+    }
+
+    /**
+     * Closes the journal, if it is open for appending.
+     */
+    private void closeJournal() throws IOException {
+        if (journalChannel != null) {
+            journalChannel.close();
+            journalChannel = null;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.LoanBook;
+import seedu.address.model.bike.Bike;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.Name;
+
+/**
+ * Reads a loan book from a JSON file in the format written by {@code JsonLoanBookWriter}, one token at a time,
+ * through a Jackson {@code JsonParser}. A compressed file is recognised and decompressed as it is read.
+ *
+ * Each loan and bike is validated and checked for duplicates against those read so far as soon as it is read, so
+ * memory use does not depend on the size of the file beyond the loan book being built. Unknown fields are skipped.
+ */
+public class JsonLoanBookReader {
+
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Expected %1$s but found %2$s.";
+    public static final String MISSING_BIKE_NAME_MESSAGE = "Bike's " + Name.class.getSimpleName()
+            + " field is missing!";
+    public static final String MESSAGE_DUPLICATE_BIKE = "Bikes list contains duplicate bike(s).";
+
+    /**
+     * Returns the loan book stored in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not well-formed JSON, is not a loan book, or holds an invalid or
+     *     duplicate loan or bike.
+     */
+    public static LoanBook read(Path file) throws DataConversionException, FileNotFoundException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = CompressionUtil.decompress(new BufferedInputStream(Files.newInputStream(file)));
+             JsonParser parser = JsonLoanBookWriter.JSON_FACTORY.createParser(in)) {
+            return readLoanBook(parser);
+        } catch (IllegalValueException | IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the object at the start of {@code parser}, holding the loans and bikes of a loan book.
+     */
+    private static LoanBook readLoanBook(JsonParser parser) throws IOException, IllegalValueException {
+        LoanBook loanBook = new LoanBook();
+        expect(parser.nextToken(), JsonToken.START_OBJECT);
+        while (nextField(parser)) {
+            switch (parser.getCurrentName()) {
+            case JsonLoanBookWriter.LOANS_FIELD:
+                readLoans(parser, loanBook);
+                break;
+            case JsonLoanBookWriter.BIKES_FIELD:
+                readBikes(parser, loanBook);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return loanBook;
+    }
+
+    /**
+     * Reads the array of loans that {@code parser} is at into {@code loanBook}.
+     */
+    private static void readLoans(JsonParser parser, LoanBook loanBook) throws IOException, IllegalValueException {
+        expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+        while (nextElement(parser)) {
+            Loan loan = readLoan(parser).toModelType();
+            if (loanBook.hasLoan(loan)) {
+                throw new IllegalValueException(XmlSerializableLoanBook.MESSAGE_DUPLICATE_LOAN);
+            }
+            loanBook.addLoan(loan);
+        }
+    }
+
+    /**
+     * Reads the fields of the loan object that {@code parser} is at, up to the end of the object.
+     * A field that appears more than once takes its last value.
+     */
+    private static XmlAdaptedLoan readLoan(JsonParser parser) throws IOException, IllegalValueException {
+        expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+
+        while (nextField(parser)) {
+            switch (parser.getCurrentName()) {
+            case "name":
+                name = readString(parser);
+                break;
+            case "phone":
+                phone = readString(parser);
+                break;
+            case "email":
+                email = readString(parser);
+                break;
+            case "address":
+                address = readString(parser);
+                break;
+            case "tagged":
+                expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+                while (nextElement(parser)) {
+                    tagged.add(new XmlAdaptedTag(readString(parser)));
+                }
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new XmlAdaptedLoan(name, phone, email, address, tagged);
+    }
+
+    /**
+     * Reads the array of bikes that {@code parser} is at into {@code loanBook}.
+     */
+    private static void readBikes(JsonParser parser, LoanBook loanBook) throws IOException, IllegalValueException {
+        expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+        while (nextElement(parser)) {
+            Bike bike = readBike(parser);
+            if (loanBook.hasBike(bike)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_BIKE);
+            }
+            loanBook.addBike(bike);
+        }
+    }
+
+    /**
+     * Reads the bike object that {@code parser} is at, up to the end of the object.
+     *
+     * @throws IllegalValueException if the bike has no name, or an invalid one.
+     */
+    private static Bike readBike(JsonParser parser) throws IOException, IllegalValueException {
+        expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String name = null;
+        while (nextField(parser)) {
+            if ("name".equals(parser.getCurrentName())) {
+                name = readString(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (name == null) {
+            throw new IllegalValueException(MISSING_BIKE_NAME_MESSAGE);
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+        }
+        return new Bike(new Name(name));
+    }
+
+    /**
+     * Moves {@code parser} to the value of the next field of the current object and returns true, or to the end of
+     * the object and returns false if there are no more fields.
+     */
+    private static boolean nextField(JsonParser parser) throws IOException, IllegalValueException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_OBJECT) {
+            return false;
+        }
+        expect(token, JsonToken.FIELD_NAME);
+        parser.nextToken();
+        return true;
+    }
+
+    /**
+     * Moves {@code parser} to the next element of the current array and returns true, or to the end of the array and
+     * returns false if there are no more elements.
+     */
+    private static boolean nextElement(JsonParser parser) throws IOException, IllegalValueException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            expect(token, JsonToken.END_ARRAY);
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+
+    /**
+     * Returns the string that {@code parser} is at, or null if it is at a JSON null.
+     */
+    private static String readString(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser.getCurrentToken(), JsonToken.VALUE_STRING);
+        return parser.getText();
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} if {@code actual} is not {@code expected}.
+     */
+    private static void expect(JsonToken actual, JsonToken expected) throws IllegalValueException {
+        if (actual != expected) {
+            throw new IllegalValueException(String.format(MESSAGE_UNEXPECTED_TOKEN, expected,
+                    actual == null ? "end of file" : actual));
+        }
+    }
+}
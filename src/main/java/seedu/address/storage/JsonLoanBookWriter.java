@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.model.ReadOnlyLoanBook;
+import seedu.address.model.bike.Bike;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes a loan book to a JSON file straight from its loan and bike lists, one loan or bike at a time, through a
+ * Jackson {@code JsonGenerator}.
+ *
+ * The file holds a single object, with a {@code loans} array of objects named after the fields of
+ * {@code XmlAdaptedLoan}, and a {@code bikes} array of objects holding the name of each bike.
+ */
+public class JsonLoanBookWriter {
+
+    static final String LOANS_FIELD = "loans";
+    static final String BIKES_FIELD = "bikes";
+
+    static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Saves {@code loanBook} to {@code file}, replacing its contents.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void write(ReadOnlyLoanBook loanBook, Path file) throws IOException {
+        write(loanBook, file, CompressionUtil.UNCOMPRESSED);
+    }
+
+    /**
+     * Saves {@code loanBook} to {@code file}, replacing its contents, compressed at {@code compressionLevel}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if there was an error writing to the file.
+     * @see CompressionUtil#compress(OutputStream, int)
+     */
+    public static void write(ReadOnlyLoanBook loanBook, Path file, int compressionLevel) throws IOException {
+        requireNonNull(loanBook);
+        requireNonNull(file);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (OutputStream out = CompressionUtil.compress(Files.newOutputStream(file), compressionLevel);
+             JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(LOANS_FIELD);
+            for (Loan loan : loanBook.getLoanList()) {
+                writeLoan(generator, loan);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(BIKES_FIELD);
+            for (Bike bike : loanBook.getBikeList()) {
+                writeBike(generator, bike);
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes an object holding the fields of {@code loan}.
+     */
+    private static void writeLoan(JsonGenerator generator, Loan loan) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", loan.getName().value);
+        generator.writeStringField("phone", loan.getPhone().value);
+        generator.writeStringField("email", loan.getEmail().value);
+        generator.writeStringField("address", loan.getAddress().value);
+        generator.writeArrayFieldStart("tagged");
+        for (Tag tag : loan.getTags()) {
+            generator.writeString(tag.value);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes an object holding the name of {@code bike}.
+     * The status of a bike is not written, as every bike starts out available.
+     */
+    private static void writeBike(JsonGenerator generator, Bike bike) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", bike.getName().value);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,246 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Keeps a rolling number of generations of backups of the files of a loan book, each in its own directory named by
+ * the time it was taken, so that the loan book can be restored as it was at an earlier point in time.
+ *
+ * A file that is unchanged since the last generation, as judged by its size and last modified time, is hard-linked to
+ * the copy in that generation instead of being copied again. Since the files of a loan book are mostly replaced whole
+ * when they change, and the files of a generation are never changed once taken, the generations share the disk space
+ * of every file they have in common, such as the segments of a partitioned loan book that a save left untouched.
+ * Where hard links are not supported, the file is copied instead.
+ *
+ * A generation is written to a directory of its own first, and only given its final name once it is complete, so an
+ * interrupted backup never leaves a partial generation behind.
+ */
+public class LoanBookBackups {
+
+    public static final String MESSAGE_INVALID_RETAINED_COUNT = "Number of backups retained must be positive";
+
+    private static final Logger logger = LogsCenter.getLogger(LoanBookBackups.class);
+
+    private static final String GENERATION_PREFIX = "generation-";
+    private static final String INCOMPLETE_SUFFIX = ".incomplete";
+    private static final Pattern GENERATION_PATTERN = Pattern.compile(Pattern.quote(GENERATION_PREFIX) + "(\\d+)");
+
+    private final Path backupDirectory;
+    private final int retainedCount;
+
+    /**
+     * Creates backups in {@code backupDirectory} that keep the latest {@code retainedCount} generations.
+     */
+    public LoanBookBackups(Path backupDirectory, int retainedCount) {
+        requireNonNull(backupDirectory);
+        checkArgument(retainedCount > 0, MESSAGE_INVALID_RETAINED_COUNT);
+        this.backupDirectory = backupDirectory;
+        this.retainedCount = retainedCount;
+    }
+
+    public Path getBackupDirectory() {
+        return backupDirectory;
+    }
+
+    /**
+     * Takes a new generation of backups of {@code files}, then deletes the oldest generations beyond those retained.
+     * Returns the time the new generation was taken.
+     *
+     * @throws IOException if there was an error reading a file or writing the generation, in which case no new
+     *     generation is left behind.
+     */
+    public synchronized Instant backUp(List<Path> files) throws IOException {
+        requireNonNull(files);
+        Files.createDirectories(backupDirectory);
+        deleteIncompleteGenerations();
+
+        List<Long> generations = getGenerations();
+        Path previous = generations.isEmpty() ? null : getGenerationPath(generations.get(generations.size() - 1));
+        long generation = generations.isEmpty()
+                ? System.currentTimeMillis()
+                : Math.max(System.currentTimeMillis(), generations.get(generations.size() - 1) + 1);
+
+        Path incomplete = backupDirectory.resolve(GENERATION_PREFIX + generation + INCOMPLETE_SUFFIX);
+        Files.createDirectory(incomplete);
+        int linked = 0;
+        try {
+            for (Path file : files) {
+                if (backUpFile(file, incomplete, previous)) {
+                    linked++;
+                }
+            }
+            Files.move(incomplete, getGenerationPath(generation), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            if (Files.exists(incomplete)) {
+                deleteGeneration(incomplete);
+            }
+        }
+        logger.fine("Backed up " + files.size() + " files of the loan book, of which " + linked + " were linked");
+
+        generations.add(generation);
+        for (int i = 0; i < generations.size() - retainedCount; i++) {
+            deleteGeneration(getGenerationPath(generations.get(i)));
+        }
+        return Instant.ofEpochMilli(generation);
+    }
+
+    /**
+     * Returns the times at which the generations retained were taken, oldest first.
+     */
+    public synchronized List<Instant> getBackupTimes() throws IOException {
+        List<Instant> times = new ArrayList<>();
+        for (long generation : getGenerations()) {
+            times.add(Instant.ofEpochMilli(generation));
+        }
+        return times;
+    }
+
+    /**
+     * Restores the loan book of {@code storage} from the latest generation taken at or before {@code pointInTime},
+     * replacing its files with those of the generation and deleting any of its files that the generation does not
+     * have. Returns the time the generation was taken, or {@code Optional.empty()} if there is no such generation.
+     *
+     * The loan book must not be read or saved through {@code storage} while it is being restored, and should be read
+     * again afterwards. The data file is restored last, so that any file it depends on is in place before it is.
+     *
+     * @throws IOException if there was an error reading the generation or replacing the files of the loan book.
+     */
+    public synchronized Optional<Instant> restore(Instant pointInTime, LoanBookStorage storage) throws IOException {
+        requireNonNull(pointInTime);
+        requireNonNull(storage);
+
+        Long restored = null;
+        for (long generation : getGenerations()) {
+            if (generation <= pointInTime.toEpochMilli()) {
+                restored = generation;
+            }
+        }
+        if (restored == null) {
+            return Optional.empty();
+        }
+
+        Path dataFile = storage.getLoanBookFilePath();
+        Path generationPath = getGenerationPath(restored);
+        Set<Path> restoredFiles = new HashSet<>();
+        try (DirectoryStream<Path> backups = Files.newDirectoryStream(generationPath)) {
+            for (Path backup : backups) {
+                Path file = dataFile.resolveSibling(backup.getFileName());
+                restoredFiles.add(file);
+                if (!file.equals(dataFile)) {
+                    restoreFile(backup, file);
+                }
+            }
+        }
+        for (Path file : storage.getLoanBookFiles()) {
+            if (!restoredFiles.contains(file) && !file.equals(dataFile)) {
+                Files.delete(file);
+            }
+        }
+        if (restoredFiles.contains(dataFile)) {
+            restoreFile(generationPath.resolve(dataFile.getFileName()), dataFile);
+        } else {
+            Files.deleteIfExists(dataFile);
+        }
+        logger.info("Restored " + dataFile + " from the backup taken at " + Instant.ofEpochMilli(restored));
+        return Optional.of(Instant.ofEpochMilli(restored));
+    }
+
+    /**
+     * Backs {@code file} up into the generation being written at {@code generationPath}, by a hard link to its copy in
+     * the {@code previous} generation if it is unchanged since, or by a copy otherwise.
+     * Modified times are compared to the millisecond, as copying a file may not keep them to a finer precision.
+     * Returns true if the file was linked.
+     */
+    private static boolean backUpFile(Path file, Path generationPath, Path previous) throws IOException {
+        Path backup = generationPath.resolve(file.getFileName());
+        Path previousBackup = previous == null ? null : previous.resolve(file.getFileName());
+        if (previousBackup != null && Files.exists(previousBackup)
+                && Files.size(previousBackup) == Files.size(file)
+                && Files.getLastModifiedTime(previousBackup).toMillis() == Files.getLastModifiedTime(file).toMillis()) {
+            try {
+                Files.createLink(backup, previousBackup);
+                return true;
+            } catch (UnsupportedOperationException | IOException e) {
+                logger.fine("Unable to link " + backup + ", copying it instead: " + e);
+            }
+        }
+        Files.copy(file, backup, StandardCopyOption.COPY_ATTRIBUTES);
+        return false;
+    }
+
+    /**
+     * Replaces {@code file} with a copy of {@code backup}, atomically.
+     */
+    private static void restoreFile(Path backup, Path file) throws IOException {
+        FileUtil.replaceAtomically(file, tempFile ->
+                Files.copy(backup, tempFile, StandardCopyOption.REPLACE_EXISTING));
+    }
+
+    /**
+     * Returns the generations in the backup directory, oldest first.
+     */
+    private List<Long> getGenerations() throws IOException {
+        List<Long> generations = new ArrayList<>();
+        if (!Files.isDirectory(backupDirectory)) {
+            return generations;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(backupDirectory)) {
+            for (Path entry : entries) {
+                Matcher matcher = GENERATION_PATTERN.matcher(entry.getFileName().toString());
+                if (matcher.matches()) {
+                    generations.add(Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+
+    private Path getGenerationPath(long generation) {
+        return backupDirectory.resolve(GENERATION_PREFIX + generation);
+    }
+
+    /**
+     * Deletes the generations left incomplete by backups that were interrupted.
+     */
+    private void deleteIncompleteGenerations() throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(backupDirectory, "*" + INCOMPLETE_SUFFIX)) {
+            for (Path entry : entries) {
+                deleteGeneration(entry);
+            }
+        }
+    }
+
+    /**
+     * Deletes the directory of a generation and the files in it.
+     * Deleting a file that is linked from another generation leaves that generation's file in place.
+     */
+    private static void deleteGeneration(Path generationPath) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(generationPath)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(generationPath);
+    }
+}
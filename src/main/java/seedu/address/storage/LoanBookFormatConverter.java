@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.LoanBook;
+
+/**
+ * Converts loan book files between the xml and binary formats.
+ *
+ * Can also be run from the command line, as {@code LoanBookFormatConverter (--to-binary | --to-xml) SOURCE TARGET}.
+ */
+public class LoanBookFormatConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: LoanBookFormatConverter (--to-binary | --to-xml) SOURCE TARGET";
+
+    /**
+     * Writes the loan book in the xml file {@code source} to {@code target} in the binary format.
+     * Creates {@code target} if it is missing.
+     *
+     * @throws DataConversionException if {@code source} is not a valid xml loan book.
+     * @throws IOException if {@code source} is missing or there was an error writing to {@code target}.
+     */
+    public static void convertXmlToBinary(Path source, Path target) throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        LoanBook loanBook = XmlLoanBookReader.read(source);
+        FileUtil.createIfMissing(target);
+        BinaryLoanBookWriter.write(loanBook, target);
+    }
+
+    /**
+     * Writes the loan book in the binary file {@code source} to {@code target} in the xml format.
+     * Creates {@code target} if it is missing.
+     *
+     * @throws DataConversionException if {@code source} is not a valid binary loan book.
+     * @throws IOException if {@code source} is missing or there was an error writing to {@code target}.
+     */
+    public static void convertBinaryToXml(Path source, Path target) throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        LoanBook loanBook = BinaryLoanBookReader.read(source);
+        FileUtil.createIfMissing(target);
+        XmlLoanBookWriter.write(loanBook, target);
+    }
+
+    /**
+     * Converts the file named by the second argument into the file named by the third, in the direction given by
+     * the first.
+     */
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length != 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        switch (args[0]) {
+        case "--to-binary":
+            convertXmlToBinary(Paths.get(args[1]), Paths.get(args[2]));
+            break;
+        case "--to-xml":
+            convertBinaryToXml(Paths.get(args[1]), Paths.get(args[2]));
+            break;
+        default:
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
@@ -18,6 +21,17 @@ public interface LoanBookStorage {
      */
     Path getLoanBookFilePath();
 
+    /**
+     * Returns the files that together hold the loan book in storage, such as the data file and any journal or
+     * segment files it depends on. The data file itself, if it exists, is the last of them.
+     *   Returns only the data file, or no file if it does not exist, unless the storage overrides this method.
+     * @throws IOException if there was any problem when finding the files.
+     */
+    default List<Path> getLoanBookFiles() throws IOException {
+        Path filePath = getLoanBookFilePath();
+        return Files.exists(filePath) ? Collections.singletonList(filePath) : Collections.emptyList();
+    }
+
     /**
      * Returns LoanBook data as a {@link ReadOnlyLoanBook}.
      *   Returns {@code Optional.empty()} if storage file is not found.
@@ -31,6 +45,17 @@ public interface LoanBookStorage {
      */
     Optional<ReadOnlyLoanBook> readLoanBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns the loans of the loan book in storage that are still intact, for when {@link #readLoanBook()} finds its
+     * data corrupted.
+     *   Returns {@code Optional.empty()} if nothing can be recovered, which is the case unless the storage overrides
+     *   this method.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default Optional<ReadOnlyLoanBook> recoverLoanBook() throws IOException {
+        return Optional.empty();
+    }
+
     /**
      * Saves the given {@link ReadOnlyLoanBook} to the storage.
      * @param loanBook cannot be null.
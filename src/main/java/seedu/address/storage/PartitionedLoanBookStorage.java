@@ -0,0 +1,448 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.LoanBook;
+import seedu.address.model.ReadOnlyLoanBook;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.exceptions.DuplicateLoanException;
+
+/**
+ * A class to access LoanBook data stored on the hard disk as a number of segment files, plus a manifest that ties
+ * them together.
+ *
+ * Each loan belongs to the segment picked by a hash of its name, and each segment is a binary loan book in the format
+ * of {@link BinaryLoanBookWriter}. Saving rewrites only the segments whose loans changed since the last save, so a
+ * one-loan edit writes one segment rather than the whole loan book. Reading loads the segments in parallel.
+ *
+ * The manifest, kept at the loan book file path, holds the generation of the file of each segment and, for every loan
+ * in order, the segment it belongs to, so that the loans are read back in the order they were saved. A save writes
+ * the changed segments to new files of a new generation and only then replaces the manifest, which is the single
+ * atomic step that moves the loan book on to the new segments. The files it no longer refers to are deleted after.
+ */
+public class PartitionedLoanBookStorage implements LoanBookStorage {
+
+    public static final int DEFAULT_SEGMENT_COUNT = 16;
+    public static final int MAX_SEGMENT_COUNT = 256;
+
+    public static final String MESSAGE_NOT_MANIFEST = "File is not a partitioned loan book manifest.";
+    public static final String MESSAGE_SEGMENT_MISMATCH = "Segment %1$d does not hold the loans its manifest lists.";
+
+    /** "LBKP" in ASCII. */
+    static final int MAGIC = 0x4C424B50;
+    static final int VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedLoanBookStorage.class);
+
+    private final Path filePath;
+    private final int segmentCount;
+    private final ExecutorService segmentReaders;
+
+    /** Segments as last saved to or read from {@code filePath}, or null if there has been neither. */
+    private List<List<Loan>> savedSegments;
+    /** Generation of the file of each of {@code savedSegments}. */
+    private long[] savedGenerations;
+    /** Segment of each loan, in order, as last saved or read. */
+    private byte[] savedLoanSegments;
+
+    public PartitionedLoanBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_COUNT);
+    }
+
+    /**
+     * Creates a storage that splits the loan book into {@code segmentCount} segments when saving.
+     * A loan book saved with a different number of segments can still be read.
+     */
+    public PartitionedLoanBookStorage(Path filePath, int segmentCount) {
+        checkArgument(segmentCount > 0 && segmentCount <= MAX_SEGMENT_COUNT,
+                "Segment count must be between 1 and " + MAX_SEGMENT_COUNT);
+        this.filePath = filePath;
+        this.segmentCount = segmentCount;
+        int threadCount = Math.min(segmentCount, Runtime.getRuntime().availableProcessors());
+        this.segmentReaders = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "loan-book-segment-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Path getLoanBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the segment files that the manifest refers to, and the manifest.
+     */
+    @Override
+    public synchronized List<Path> getLoanBookFiles() throws IOException {
+        if (!Files.exists(filePath)) {
+            return Collections.emptyList();
+        }
+        long[] generations = savedGenerations;
+        if (generations == null) {
+            try {
+                generations = Manifest.read(filePath).generations;
+            } catch (DataConversionException dce) {
+                throw new IOException(dce);
+            }
+        }
+
+        List<Path> files = new ArrayList<>();
+        for (int segment = 0; segment < generations.length; segment++) {
+            files.add(getSegmentPath(filePath, segment, generations[segment]));
+        }
+        files.add(filePath);
+        return files;
+    }
+
+    @Override
+    public Optional<ReadOnlyLoanBook> readLoanBook() throws DataConversionException, IOException {
+        return readLoanBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readLoanBook()}
+     * @param filePath location of the manifest. Cannot be null
+     * @throws DataConversionException if the manifest or a segment is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyLoanBook> readLoanBook(Path filePath) throws DataConversionException,
+                                                                                        IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("LoanBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Manifest manifest = Manifest.read(filePath);
+        List<Future<LoanBook>> reads = new ArrayList<>();
+        for (int segment = 0; segment < manifest.generations.length; segment++) {
+            Path segmentPath = getSegmentPath(filePath, segment, manifest.generations[segment]);
+            reads.add(segmentReaders.submit(() -> BinaryLoanBookReader.read(segmentPath)));
+        }
+        List<List<Loan>> segments = new ArrayList<>();
+        for (Future<LoanBook> read : reads) {
+            segments.add(new ArrayList<>(awaitSegment(read).getLoanList()));
+        }
+
+        LoanBook loanBook = new LoanBook();
+        try {
+            loanBook.setLoans(merge(segments, manifest.loanSegments));
+        } catch (DuplicateLoanException dle) {
+            throw new DataConversionException(dle);
+        }
+        if (filePath.equals(this.filePath) && segments.size() == segmentCount) {
+            savedSegments = segments;
+            savedGenerations = manifest.generations;
+            savedLoanSegments = manifest.loanSegments;
+        }
+        return Optional.of(loanBook);
+    }
+
+    /**
+     * Returns the intact loans of every segment that the manifest names, segment by segment.
+     * The order of the loans across segments is not kept.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyLoanBook> recoverLoanBook() throws IOException {
+        Manifest manifest;
+        try {
+            manifest = Manifest.read(filePath);
+        } catch (DataConversionException dce) {
+            logger.warning("Unable to recover any loans from " + filePath + ": " + dce.getMessage());
+            return Optional.empty();
+        }
+
+        LoanBook loanBook = new LoanBook();
+        for (int segment = 0; segment < manifest.generations.length; segment++) {
+            Path segmentPath = getSegmentPath(filePath, segment, manifest.generations[segment]);
+            try {
+                for (Loan loan : BinaryLoanBookReader.recover(segmentPath).getLoanList()) {
+                    if (!loanBook.hasLoan(loan)) {
+                        loanBook.addLoan(loan);
+                    }
+                }
+            } catch (DataConversionException | FileNotFoundException e) {
+                logger.warning("Unable to recover any loans from " + segmentPath + ": " + e.getMessage());
+            }
+        }
+        savedSegments = null;
+        return Optional.of(loanBook);
+    }
+
+    @Override
+    public void saveLoanBook(ReadOnlyLoanBook loanBook) throws IOException {
+        saveLoanBook(loanBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveLoanBook(ReadOnlyLoanBook)}
+     * Saving to a path other than this storage's own writes every segment there.
+     * @param filePath location of the manifest. Cannot be null
+     */
+    public synchronized void saveLoanBook(ReadOnlyLoanBook loanBook, Path filePath) throws IOException {
+        requireNonNull(loanBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        List<List<Loan>> oldSegments = isOwnFile ? savedSegments : null;
+        long[] generations = isOwnFile && savedGenerations != null
+                ? savedGenerations.clone()
+                : new long[segmentCount];
+        long newGeneration = Arrays.stream(generations).max().orElse(0) + 1;
+        if (oldSegments == null) {
+            newGeneration = Math.max(newGeneration, getLatestGeneration(filePath) + 1);
+        }
+
+        List<List<Loan>> segments = new ArrayList<>();
+        for (int segment = 0; segment < segmentCount; segment++) {
+            segments.add(new ArrayList<>());
+        }
+        byte[] loanSegments = new byte[loanBook.getLoanList().size()];
+        int position = 0;
+        for (Loan loan : loanBook.getLoanList()) {
+            int segment = getSegment(loan);
+            segments.get(segment).add(loan);
+            loanSegments[position++] = (byte) segment;
+        }
+
+        int rewritten = 0;
+        for (int segment = 0; segment < segmentCount; segment++) {
+            if (oldSegments != null && segments.get(segment).equals(oldSegments.get(segment))) {
+                continue;
+            }
+            LoanBook segmentLoanBook = new LoanBook();
+            segmentLoanBook.setLoans(segments.get(segment));
+            FileUtil.replaceAtomically(getSegmentPath(filePath, segment, newGeneration), file ->
+                    BinaryLoanBookWriter.write(segmentLoanBook, file));
+            generations[segment] = newGeneration;
+            rewritten++;
+        }
+        if (rewritten > 0 || oldSegments == null || !Arrays.equals(loanSegments, savedLoanSegments)) {
+            new Manifest(generations, loanSegments).write(filePath);
+        }
+        // the save is complete once the manifest is written, whether or not the old segments can be deleted
+        if (isOwnFile) {
+            savedSegments = segments;
+            savedGenerations = generations;
+            savedLoanSegments = loanSegments;
+        }
+        logger.fine("Rewrote " + rewritten + " of " + segmentCount + " segments of " + filePath);
+        deleteUnusedSegments(filePath, generations);
+    }
+
+    /**
+     * Returns the segment that {@code loan} belongs to.
+     * The hash of a {@code String} is fixed by its contents, so a loan belongs to the same segment in every run.
+     */
+    private int getSegment(Loan loan) {
+        return Math.floorMod(loan.getName().value.hashCode(), segmentCount);
+    }
+
+    /**
+     * Returns the loan book read by {@code read}, once it is done.
+     */
+    private static LoanBook awaitSegment(Future<LoanBook> read) throws DataConversionException, IOException {
+        try {
+            return read.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof DataConversionException) {
+                throw (DataConversionException) ee.getCause();
+            }
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    /**
+     * Returns the loans of {@code segments} in their saved order, taking the next loan of segment
+     * {@code loanSegments[i]} for the {@code i}-th loan.
+     *
+     * @throws DataConversionException if the segments do not hold exactly the loans listed.
+     */
+    private static List<Loan> merge(List<List<Loan>> segments, byte[] loanSegments) throws DataConversionException {
+        List<Iterator<Loan>> iterators = new ArrayList<>();
+        for (List<Loan> segment : segments) {
+            iterators.add(segment.iterator());
+        }
+        List<Loan> loans = new ArrayList<>(loanSegments.length);
+        for (byte loanSegment : loanSegments) {
+            int segment = Byte.toUnsignedInt(loanSegment);
+            if (segment >= segments.size() || !iterators.get(segment).hasNext()) {
+                throw new DataConversionException(
+                        new IllegalValueException(String.format(MESSAGE_SEGMENT_MISMATCH, segment)));
+            }
+            loans.add(iterators.get(segment).next());
+        }
+        for (int segment = 0; segment < segments.size(); segment++) {
+            if (iterators.get(segment).hasNext()) {
+                throw new DataConversionException(
+                        new IllegalValueException(String.format(MESSAGE_SEGMENT_MISMATCH, segment)));
+            }
+        }
+        return loans;
+    }
+
+    //// segment files
+
+    static Path getSegmentPath(Path filePath, int segment, long generation) {
+        return filePath.resolveSibling(filePath.getFileName() + ".segment" + segment + "." + generation);
+    }
+
+    private static Pattern getSegmentPathPattern(Path filePath) {
+        return Pattern.compile(Pattern.quote(filePath.getFileName().toString()) + "\\.segment(\\d+)\\.(\\d+)");
+    }
+
+    /**
+     * Returns the latest generation of any segment file of {@code filePath}, or 0 if there is none.
+     * Segment files of a new generation then never overwrite a file that a manifest may refer to.
+     */
+    private static long getLatestGeneration(Path filePath) throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        Pattern segmentPathPattern = getSegmentPathPattern(filePath);
+        long latest = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = segmentPathPattern.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    latest = Math.max(latest, Long.parseLong(matcher.group(2)));
+                }
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Deletes the segment files of {@code filePath} other than those of {@code generations}, such as those replaced
+     * by the last save or left by a save that was interrupted.
+     * A file that cannot be deleted, such as one still mapped into memory on Windows, is logged and left for a later
+     * save to delete, as the save that no longer refers to it is already complete.
+     */
+    private static void deleteUnusedSegments(Path filePath, long[] generations) {
+        Pattern segmentPathPattern = getSegmentPathPattern(filePath);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(filePath.toAbsolutePath().getParent())) {
+            for (Path file : files) {
+                Matcher matcher = segmentPathPattern.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                int segment = Integer.parseInt(matcher.group(1));
+                if (segment >= generations.length || generations[segment] != Long.parseLong(matcher.group(2))) {
+                    deleteUnusedSegment(file);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Unable to look for unused segments of " + filePath + ": " + ioe);
+        }
+    }
+
+    /**
+     * Deletes {@code file}, or logs why it could not be deleted.
+     */
+    private static void deleteUnusedSegment(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ioe) {
+            logger.warning("Unable to delete unused segment " + file + ", to be retried on the next save: " + ioe);
+        }
+    }
+
+    /**
+     * The manifest of a partitioned loan book: the magic number {@link #MAGIC}, the format {@link #VERSION}, the
+     * number of segments and the generation of each, then the number of loans and the segment of each as one byte.
+     */
+    private static class Manifest {
+        private final long[] generations;
+        private final byte[] loanSegments;
+
+        Manifest(long[] generations, byte[] loanSegments) {
+            this.generations = generations;
+            this.loanSegments = loanSegments;
+        }
+
+        /**
+         * Returns the manifest in {@code file}.
+         *
+         * @throws DataConversionException if the file is not a valid manifest.
+         */
+        static Manifest read(Path file) throws DataConversionException, IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            try {
+                if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                    throw new IllegalValueException(MESSAGE_NOT_MANIFEST);
+                }
+                long[] generations = new long[buffer.getInt()];
+                if (generations.length <= 0 || generations.length > MAX_SEGMENT_COUNT) {
+                    throw new IllegalValueException(MESSAGE_NOT_MANIFEST);
+                }
+                for (int segment = 0; segment < generations.length; segment++) {
+                    generations[segment] = buffer.getLong();
+                }
+                int loanCount = buffer.getInt();
+                if (loanCount < 0 || loanCount > buffer.remaining()) {
+                    throw new IllegalValueException(MESSAGE_NOT_MANIFEST);
+                }
+                byte[] loanSegments = new byte[loanCount];
+                buffer.get(loanSegments);
+                return new Manifest(generations, loanSegments);
+            } catch (IllegalValueException | BufferUnderflowException e) {
+                throw new DataConversionException(e);
+            }
+        }
+
+        /**
+         * Replaces the manifest in {@code file} with this one, atomically.
+         */
+        void write(Path file) throws IOException {
+            FileUtil.replaceAtomically(file, manifestFile -> {
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(manifestFile)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                    out.writeInt(generations.length);
+                    for (long generation : generations) {
+                        out.writeLong(generation);
+                    }
+                    out.writeInt(loanSegments.length);
+                    out.write(loanSegments);
+                }
+            });
+        }
+    }
+}
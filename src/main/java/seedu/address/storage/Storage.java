@@ -36,4 +36,10 @@ public interface Storage extends LoanBookStorage, UserPrefsStorage {
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleLoanBookChangedEvent(LoanBookChangedEvent abce);
+
+    /**
+     * Blocks until every loan book change handled so far has been saved, or has failed to save, and backed up if
+     * backups are kept.
+     */
+    void flush();
 }
@@ -2,11 +2,22 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.LoanBookChangedEvent;
@@ -14,9 +25,22 @@ import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyLoanBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.bike.Bike;
+import seedu.address.model.loan.Loan;
 
 /**
  * Manages storage of LoanBook data in local storage.
+ *
+ * Changes to the loan book are saved either on the thread that raised them, or, in write-behind mode, by a single
+ * background writer thread. The writer saves a snapshot of the loan book taken when the change was raised, and a burst
+ * of changes raised while it is busy is saved only once, from the snapshot of the latest change.
+ *
+ * In write-behind mode, the writer can also wait for a group commit delay after the first unsaved change, so that
+ * every change raised within that delay shares a single save, and so a single force of the file to the disk.
+ *
+ * If backups are kept, each save of the loan book is followed by a backup of its files on a background backup
+ * thread. A burst of saves made while a backup is waiting to run is backed up only once, and no save runs while a
+ * backup is reading the files, so that every backup holds the loan book as it was after some save.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
@@ -24,11 +48,56 @@ public class StorageManager extends ComponentManager implements Storage {
     private LoanBookStorage loanBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    /** Saves loan book changes in write-behind mode, or null if they are saved synchronously. */
+    private final ScheduledExecutorService loanBookWriter;
+    private final long groupCommitDelayMillis;
+    /** Snapshot of the latest loan book change that the writer has yet to save, or null if there is none. */
+    private final AtomicReference<ReadOnlyLoanBook> pendingLoanBook = new AtomicReference<>();
+
+    /** Backups taken after each save, or null if no backups are kept. */
+    private final LoanBookBackups loanBookBackups;
+    /** Takes the backups of {@code loanBookBackups}, or null if no backups are kept. */
+    private final ExecutorService loanBookBackupWriter;
+    /** Whether a backup has been requested that the backup thread has yet to start. */
+    private final AtomicBoolean isBackupPending = new AtomicBoolean();
+    /** Held while the loan book is saved or backed up, so that a backup never sees a save half done. */
+    private final Object loanBookFileLock = new Object();
 
     public StorageManager(LoanBookStorage loanBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(loanBookStorage, userPrefsStorage, false, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves loan book changes on a background writer thread if
+     * {@code isWriteBehind} is true, and on the thread that raised them otherwise.
+     * The writer waits {@code groupCommitDelayMillis} after the first unsaved change before saving.
+     */
+    public StorageManager(LoanBookStorage loanBookStorage, UserPrefsStorage userPrefsStorage, boolean isWriteBehind,
+            long groupCommitDelayMillis) {
+        this(loanBookStorage, userPrefsStorage, isWriteBehind, groupCommitDelayMillis, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} like {@link #StorageManager(LoanBookStorage, UserPrefsStorage, boolean, long)}
+     * that backs up the loan book to {@code loanBookBackups} after each save, unless it is null.
+     */
+    public StorageManager(LoanBookStorage loanBookStorage, UserPrefsStorage userPrefsStorage, boolean isWriteBehind,
+            long groupCommitDelayMillis, LoanBookBackups loanBookBackups) {
         super();
         this.loanBookStorage = loanBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.groupCommitDelayMillis = groupCommitDelayMillis;
+        this.loanBookWriter = isWriteBehind ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "loan-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        this.loanBookBackups = loanBookBackups;
+        this.loanBookBackupWriter = loanBookBackups != null ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "loan-book-backup");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -67,6 +136,12 @@ public class StorageManager extends ComponentManager implements Storage {
         return loanBookStorage.readLoanBook(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyLoanBook> recoverLoanBook() throws IOException {
+        logger.fine("Attempting to recover data from file: " + loanBookStorage.getLoanBookFilePath());
+        return loanBookStorage.recoverLoanBook();
+    }
+
     @Override
     public void saveLoanBook(ReadOnlyLoanBook loanBook) throws IOException {
         saveLoanBook(loanBook, loanBookStorage.getLoanBookFilePath());
@@ -75,19 +150,133 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public void saveLoanBook(ReadOnlyLoanBook loanBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        loanBookStorage.saveLoanBook(loanBook, filePath);
+        synchronized (loanBookFileLock) {
+            loanBookStorage.saveLoanBook(loanBook, filePath);
+        }
+        if (loanBookBackups != null && filePath.equals(loanBookStorage.getLoanBookFilePath())
+                && !isBackupPending.getAndSet(true)) {
+            loanBookBackupWriter.execute(this::backUpLoanBook);
+        }
+    }
+
+    /**
+     * Restores the loan book from the latest backup taken at or before {@code pointInTime}, once every loan book
+     * change handled so far has been saved and backed up. Returns the time the backup was taken, or
+     * {@code Optional.empty()} if there is no such backup or no backups are kept.
+     * The loan book should be read again afterwards.
+     * @throws IOException if there was any problem when restoring the backup.
+     */
+    public Optional<Instant> restoreLoanBook(Instant pointInTime) throws IOException {
+        if (loanBookBackups == null) {
+            return Optional.empty();
+        }
+        flush();
+        synchronized (loanBookFileLock) {
+            return loanBookBackups.restore(pointInTime, loanBookStorage);
+        }
     }
 
 
+    @Override
+    public void flush() {
+        try {
+            if (loanBookWriter != null) {
+                // runs ahead of a save still waiting out its group commit delay, but after one already running
+                loanBookWriter.submit(this::savePendingLoanBook).get();
+            }
+            if (loanBookBackupWriter != null) {
+                // runs after the backup of the last save, which was requested before it
+                loanBookBackupWriter.submit(() -> { }).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Unable to finish saving the loan book: " + e.getCause());
+        }
+    }
+
     @Override
     @Subscribe
     public void handleLoanBookChangedEvent(LoanBookChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (loanBookWriter == null) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+            saveLoanBookOrRaise(event.data);
+            return;
+        }
+
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, scheduling save to file"));
+        if (pendingLoanBook.getAndSet(new LoanBookSnapshot(event.data)) == null) {
+            loanBookWriter.schedule(this::savePendingLoanBook, groupCommitDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the latest loan book change not yet saved, if any.
+     * Any error during saving is raised as a {@link DataSavingExceptionEvent}, as nothing waits on the writer's tasks
+     * to report it.
+     */
+    private void savePendingLoanBook() {
+        ReadOnlyLoanBook loanBook = pendingLoanBook.getAndSet(null);
+        if (loanBook == null) {
+            return;
+        }
         try {
-            saveLoanBook(event.data);
+            saveLoanBookOrRaise(loanBook);
+        } catch (RuntimeException e) {
+            raise(new DataSavingExceptionEvent(e));
+        }
+    }
+
+    /**
+     * Backs up the files of the loan book as they are after the latest save.
+     * A backup that fails is logged, and the loan book is backed up again after the next save.
+     */
+    private void backUpLoanBook() {
+        isBackupPending.set(false);
+        try {
+            synchronized (loanBookFileLock) {
+                loanBookBackups.backUp(loanBookStorage.getLoanBookFiles());
+            }
+        } catch (IOException e) {
+            logger.warning("Unable to back up the loan book: " + e);
+        }
+    }
+
+    /**
+     * Saves {@code loanBook}, raising a {@link DataSavingExceptionEvent} if there was an error during saving.
+     */
+    private void saveLoanBookOrRaise(ReadOnlyLoanBook loanBook) {
+        try {
+            saveLoanBook(loanBook);
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
 
+    /**
+     * The bikes and loans of a loan book at one point in time, unaffected by later changes to it.
+     * Taking one copies only the references to the bikes and loans, which are immutable.
+     */
+    private static class LoanBookSnapshot implements ReadOnlyLoanBook {
+        private final ObservableList<Bike> bikes;
+        private final ObservableList<Loan> loans;
+
+        LoanBookSnapshot(ReadOnlyLoanBook loanBook) {
+            bikes = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(new ArrayList<>(loanBook.getBikeList())));
+            loans = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(new ArrayList<>(loanBook.getLoanList())));
+        }
+
+        @Override
+        public ObservableList<Bike> getBikeList() {
+            return bikes;
+        }
+
+        @Override
+        public ObservableList<Loan> getLoanList() {
+            return loans;
+        }
+    }
+
 }
@@ -0,0 +1,341 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.LoanBook;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.exceptions.DuplicateLoanException;
+
+/**
+ * Reads a loan book from an XML file in the format written by {@code XmlSerializableLoanBook}, one {@code <loans>}
+ * element at a time. A file compressed by {@code XmlLoanBookWriter} is recognised and decompressed as it is read.
+ *
+ * Each element is converted to a {@code Loan}, validated by {@code XmlAdaptedLoan#toModelType()} and checked for
+ * duplicates against the loans read so far as soon as it is read, so memory use does not depend on the size of the
+ * file beyond the loan book being built.
+ *
+ * When reading in parallel, the elements are read in chunks of {@code XmlSerializableLoanBook#CHUNK_SIZE}, each
+ * converted and validated on the common fork-join pool while the next ones are read. Only a few chunks are waiting
+ * to be converted at any time, so memory use stays bounded as well. The loans converted are then checked for
+ * duplicates in a single pass, like {@code XmlSerializableLoanBook#toModelTypeInParallel} does.
+ */
+public class XmlLoanBookReader {
+
+    public static final String MESSAGE_UNEXPECTED_ROOT_ELEMENT = "Expected a <%s> root element but found <%s>.";
+
+    private static final String ROOT_ELEMENT = "loanbook";
+    private static final String LOAN_ELEMENT = "loans";
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    /** Number of chunks of loans read in parallel that may be waiting to be converted at once. */
+    private static final int MAX_PENDING_CHUNKS = 2 * ForkJoinPool.getCommonPoolParallelism();
+
+    /**
+     * Returns the loan book stored in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not well-formed XML, or holds an invalid or duplicate loan.
+     */
+    public static LoanBook read(Path file) throws DataConversionException, FileNotFoundException {
+        return read(file, false);
+    }
+
+    /**
+     * Returns the loan book stored in {@code file}, converting and validating its loans in parallel if
+     * {@code isParallel} is true.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not well-formed XML, or holds an invalid or duplicate loan.
+     */
+    public static LoanBook read(Path file, boolean isParallel) throws DataConversionException,
+            FileNotFoundException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = CompressionUtil.decompress(new BufferedInputStream(Files.newInputStream(file)))) {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                return readLoanBook(reader, isParallel);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IllegalValueException | IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the valid loans stored in {@code file}, for a file that {@link #read(Path)} rejects.
+     * Invalid loans, and loans that duplicate one before them, are left out. If the file stops being well-formed
+     * XML, the loans read up to that point are returned.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file does not start with the root element of a loan book.
+     */
+    public static LoanBook recover(Path file) throws DataConversionException, FileNotFoundException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = CompressionUtil.decompress(new BufferedInputStream(Files.newInputStream(file)))) {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                readRootElement(reader);
+                return recoverLoans(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IllegalValueException | IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Moves {@code reader} to the root element at the start of the document.
+     *
+     * @throws IllegalValueException if the root element is not that of a loan book.
+     */
+    private static void readRootElement(XMLStreamReader reader) throws XMLStreamException, IllegalValueException {
+        reader.nextTag();
+        if (!ROOT_ELEMENT.equals(reader.getLocalName())) {
+            throw new IllegalValueException(String.format(MESSAGE_UNEXPECTED_ROOT_ELEMENT, ROOT_ELEMENT,
+                    reader.getLocalName()));
+        }
+    }
+
+    /**
+     * Reads the valid loans inside the root element, up to its end or up to the first point that is not
+     * well-formed.
+     */
+    private static LoanBook recoverLoans(XMLStreamReader reader) {
+        LoanBook loanBook = new LoanBook();
+        try {
+            while (nextLoanElement(reader)) {
+                try {
+                    Loan loan = readLoan(reader).toModelType();
+                    if (!loanBook.hasLoan(loan)) {
+                        loanBook.addLoan(loan);
+                    }
+                } catch (IllegalValueException ive) {
+                    // the loan is left out
+                }
+            }
+        } catch (XMLStreamException xse) {
+            // the rest of the file cannot be read
+        }
+        return loanBook;
+    }
+
+    /**
+     * Reads the root element at the start of {@code reader}, and the loans inside it.
+     */
+    private static LoanBook readLoanBook(XMLStreamReader reader, boolean isParallel) throws XMLStreamException,
+            IllegalValueException {
+        readRootElement(reader);
+
+        if (isParallel) {
+            return readLoansInParallel(reader);
+        }
+
+        LoanBook loanBook = new LoanBook();
+        while (nextLoanElement(reader)) {
+            Loan loan = readLoan(reader).toModelType();
+            if (loanBook.hasLoan(loan)) {
+                throw new IllegalValueException(XmlSerializableLoanBook.MESSAGE_DUPLICATE_LOAN);
+            }
+            loanBook.addLoan(loan);
+        }
+        return loanBook;
+    }
+
+    /**
+     * Reads the loans inside the root element, converting and validating them in chunks on the common fork-join pool.
+     * Reading waits for the oldest chunk once {@link #MAX_PENDING_CHUNKS} are pending. If several loans are invalid,
+     * the error of the first of them is thrown.
+     */
+    private static LoanBook readLoansInParallel(XMLStreamReader reader) throws XMLStreamException,
+            IllegalValueException {
+        Deque<CompletableFuture<List<Loan>>> pendingChunks = new ArrayDeque<>();
+        List<Loan> loans = new ArrayList<>();
+        try {
+            List<XmlAdaptedLoan> chunk = new ArrayList<>(XmlSerializableLoanBook.CHUNK_SIZE);
+            while (nextLoanElement(reader)) {
+                chunk.add(readLoan(reader));
+                if (chunk.size() == XmlSerializableLoanBook.CHUNK_SIZE) {
+                    pendingChunks.add(toModelTypeInBackground(chunk));
+                    chunk = new ArrayList<>(XmlSerializableLoanBook.CHUNK_SIZE);
+                }
+                if (pendingChunks.size() > MAX_PENDING_CHUNKS) {
+                    loans.addAll(join(pendingChunks.remove()));
+                }
+            }
+            pendingChunks.add(toModelTypeInBackground(chunk));
+            while (!pendingChunks.isEmpty()) {
+                loans.addAll(join(pendingChunks.remove()));
+            }
+        } finally {
+            pendingChunks.forEach(pendingChunk -> pendingChunk.cancel(false));
+        }
+
+        LoanBook loanBook = new LoanBook();
+        try {
+            loanBook.setLoans(loans);
+        } catch (DuplicateLoanException dle) {
+            throw new IllegalValueException(XmlSerializableLoanBook.MESSAGE_DUPLICATE_LOAN, dle);
+        }
+        return loanBook;
+    }
+
+    /**
+     * Converts {@code adaptedLoans} into loans on the common fork-join pool.
+     */
+    private static CompletableFuture<List<Loan>> toModelTypeInBackground(List<XmlAdaptedLoan> adaptedLoans) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<Loan> loans = new ArrayList<>(adaptedLoans.size());
+            try {
+                for (XmlAdaptedLoan adaptedLoan : adaptedLoans) {
+                    loans.add(adaptedLoan.toModelType());
+                }
+            } catch (IllegalValueException ive) {
+                throw new CompletionException(ive);
+            }
+            return loans;
+        }, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Waits for the loans of {@code chunk} and returns them.
+     *
+     * @throws IllegalValueException if a loan of the chunk is invalid.
+     */
+    private static List<Loan> join(CompletableFuture<List<Loan>> chunk) throws IllegalValueException {
+        try {
+            return chunk.join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) ce.getCause();
+            }
+            throw ce;
+        }
+    }
+
+    /**
+     * Moves {@code reader} to the start of the next {@code <loans>} child of the current element and returns true,
+     * skipping any other children, or to the end of the current element and returns false if there are no more.
+     */
+    private static boolean nextLoanElement(XMLStreamReader reader) throws XMLStreamException {
+        while (nextChildElement(reader)) {
+            if (LOAN_ELEMENT.equals(reader.getLocalName())) {
+                return true;
+            }
+            skipElement(reader);
+        }
+        return false;
+    }
+
+    /**
+     * Reads the fields of the {@code <loans>} element that {@code reader} is at, up to the end of the element.
+     * Unknown fields are skipped, and a field that appears more than once takes its last value.
+     */
+    private static XmlAdaptedLoan readLoan(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+            case "name":
+                name = reader.getElementText();
+                break;
+            case "phone":
+                phone = reader.getElementText();
+                break;
+            case "email":
+                email = reader.getElementText();
+                break;
+            case "address":
+                address = reader.getElementText();
+                break;
+            case "tagged":
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedLoan(name, phone, email, address, tagged);
+    }
+
+    /**
+     * Moves {@code reader} to the start of the next child of the current element and returns true, or to the end of
+     * the current element and returns false if there are no more children.
+     */
+    private static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        throw new XMLStreamException("Unexpected end of document", reader.getLocation());
+    }
+
+    /**
+     * Moves {@code reader} from the start of an element to its end, skipping everything inside it.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Returns a factory for readers that coalesce text and do not resolve DTDs or external entities.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -11,21 +12,46 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyLoanBook;
 
 /**
  * A class to access LoanBook data stored as an xml file on the hard disk.
+ * The file may be compressed, which is detected when it is read.
  */
 public class XmlLoanBookStorage implements LoanBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(XmlLoanBookStorage.class);
 
     private Path filePath;
+    private final boolean isLoadedInParallel;
+    private final int compressionLevel;
 
     public XmlLoanBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage that converts and validates the loans it reads on every core if {@code isLoadedInParallel}
+     * is true.
+     */
+    public XmlLoanBookStorage(Path filePath, boolean isLoadedInParallel) {
+        this(filePath, isLoadedInParallel, CompressionUtil.UNCOMPRESSED);
+    }
+
+    /**
+     * Creates a storage like {@link #XmlLoanBookStorage(Path, boolean)} that compresses the files it saves at
+     * {@code compressionLevel}.
+     *
+     * @see CompressionUtil#compress(java.io.OutputStream, int)
+     */
+    public XmlLoanBookStorage(Path filePath, boolean isLoadedInParallel, int compressionLevel) {
+        checkArgument(CompressionUtil.isValidCompressionLevel(compressionLevel),
+                CompressionUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
         this.filePath = filePath;
+        this.isLoadedInParallel = isLoadedInParallel;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getLoanBookFilePath() {
@@ -51,12 +77,24 @@ public class XmlLoanBookStorage implements LoanBookStorage {
             return Optional.empty();
         }
 
-        XmlSerializableLoanBook xmlLoanBook = XmlFileStorage.loadDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlLoanBook.toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+            return Optional.of(XmlLoanBookReader.read(filePath, isLoadedInParallel));
+        } catch (DataConversionException dce) {
+            logger.info("Illegal values found in " + filePath + ": " + dce.getMessage());
+            throw dce;
+        }
+    }
+
+    /**
+     * Returns the valid loans of the file, up to the point where it stops being well-formed xml.
+     */
+    @Override
+    public Optional<ReadOnlyLoanBook> recoverLoanBook() throws IOException {
+        try {
+            return Optional.of(XmlLoanBookReader.recover(filePath));
+        } catch (DataConversionException dce) {
+            logger.warning("Unable to recover any loans from " + filePath + ": " + dce.getMessage());
+            return Optional.empty();
         }
     }
 
@@ -67,14 +105,14 @@ public class XmlLoanBookStorage implements LoanBookStorage {
 
     /**
      * Similar to {@link #saveLoanBook(ReadOnlyLoanBook)}
+     * The file is replaced atomically, so it is never left partly written.
      * @param filePath location of the data. Cannot be null
      */
     public void saveLoanBook(ReadOnlyLoanBook loanBook, Path filePath) throws IOException {
         requireNonNull(loanBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableLoanBook(loanBook));
+        FileUtil.replaceAtomically(filePath, file -> XmlLoanBookWriter.write(loanBook, file, compressionLevel));
     }
 
 }
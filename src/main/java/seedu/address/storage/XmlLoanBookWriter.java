@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.model.ReadOnlyLoanBook;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes a loan book to an XML file straight from its loan list, one loan at a time.
+ *
+ * The output is byte for byte what JAXB writes for an {@code XmlSerializableLoanBook} with formatted output, so files
+ * written by either can be read by both {@code XmlLoanBookReader} and JAXB.
+ * The file can also be compressed, in which case only {@code XmlLoanBookReader} can read it.
+ */
+public class XmlLoanBookWriter {
+
+    private static final String XML_DECLARATION =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String INDENT = "    ";
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    /**
+     * Saves {@code loanBook} to {@code file}, replacing its contents.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void write(ReadOnlyLoanBook loanBook, Path file) throws IOException {
+        write(loanBook, file, CompressionUtil.UNCOMPRESSED);
+    }
+
+    /**
+     * Saves {@code loanBook} to {@code file}, replacing its contents, compressed at {@code compressionLevel}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if there was an error writing to the file.
+     * @see CompressionUtil#compress(java.io.OutputStream, int)
+     */
+    public static void write(ReadOnlyLoanBook loanBook, Path file, int compressionLevel) throws IOException {
+        requireNonNull(loanBook);
+        requireNonNull(file);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                CompressionUtil.compress(Files.newOutputStream(file), compressionLevel), UTF_8))) {
+            out.write(XML_DECLARATION);
+            XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out);
+            writeLoanBook(writer, loanBook);
+            writer.writeEndDocument();
+            writer.close();
+            out.write('\n');
+        } catch (XMLStreamException xse) {
+            throw new IOException(xse);
+        }
+    }
+
+    /**
+     * Writes the root element, holding every loan of {@code loanBook}.
+     */
+    private static void writeLoanBook(XMLStreamWriter writer, ReadOnlyLoanBook loanBook) throws XMLStreamException {
+        if (loanBook.getLoanList().isEmpty()) {
+            writer.writeEmptyElement("loanbook");
+            return;
+        }
+
+        writer.writeStartElement("loanbook");
+        for (Loan loan : loanBook.getLoanList()) {
+            writeLoan(writer, loan);
+        }
+        writer.writeCharacters("\n");
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes a {@code <loans>} element holding the fields of {@code loan}, in the order {@code XmlAdaptedLoan}
+     * declares them.
+     */
+    private static void writeLoan(XMLStreamWriter writer, Loan loan) throws XMLStreamException {
+        writer.writeCharacters("\n" + INDENT);
+        writer.writeStartElement("loans");
+        writeField(writer, "name", loan.getName().value);
+        writeField(writer, "phone", loan.getPhone().value);
+        writeField(writer, "email", loan.getEmail().value);
+        writeField(writer, "address", loan.getAddress().value);
+        for (Tag tag : loan.getTags()) {
+            writeField(writer, "tagged", tag.value);
+        }
+        writer.writeCharacters("\n" + INDENT);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes a single field element of a loan, holding {@code value} as text.
+     */
+    private static void writeField(XMLStreamWriter writer, String element, String value) throws XMLStreamException {
+        writer.writeCharacters("\n" + INDENT + INDENT);
+        writer.writeStartElement(element);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+}
@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -11,6 +13,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.LoanBook;
 import seedu.address.model.ReadOnlyLoanBook;
 import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.exceptions.DuplicateLoanException;
 
 /**
  * An Immutable LoanBook that is serializable to XML format
@@ -20,6 +23,9 @@ public class XmlSerializableLoanBook {
 
     public static final String MESSAGE_DUPLICATE_LOAN = "Loans list contains duplicate loan(s).";
 
+    /** Number of loans converted in a row by each task of {@link #toModelTypeInParallel()}. */
+    static final int CHUNK_SIZE = 1024;
+
     @XmlElement
     private List<XmlAdaptedLoan> loans;
 
@@ -57,6 +63,54 @@ public class XmlSerializableLoanBook {
         return loanBook;
     }
 
+    /**
+     * Converts this loanbook into the model's {@code LoanBook} object, like {@link #toModelType()}, but converting
+     * and validating the loans on every core.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the
+     * {@code XmlAdaptedLoan}.
+     */
+    public LoanBook toModelTypeInParallel() throws IllegalValueException {
+        return toModelTypeInParallel(loans);
+    }
+
+    /**
+     * Converts {@code adaptedLoans} into a {@code LoanBook}.
+     * The loans are split into chunks of {@link #CHUNK_SIZE}, which are converted and validated in parallel on the
+     * common fork-join pool. The loans converted are then checked for duplicates in a single pass over the hash
+     * indexes of the loan book. If several loans are invalid, the error of the first of them is thrown.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the
+     * {@code XmlAdaptedLoan}.
+     */
+    static LoanBook toModelTypeInParallel(List<XmlAdaptedLoan> adaptedLoans) throws IllegalValueException {
+        Loan[] loans = new Loan[adaptedLoans.size()];
+        IllegalValueException[] errors = new IllegalValueException[(loans.length + CHUNK_SIZE - 1) / CHUNK_SIZE];
+        IntStream.range(0, errors.length).parallel().forEach(chunk -> {
+            int end = Math.min(loans.length, (chunk + 1) * CHUNK_SIZE);
+            try {
+                for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                    loans[i] = adaptedLoans.get(i).toModelType();
+                }
+            } catch (IllegalValueException ive) {
+                errors[chunk] = ive;
+            }
+        });
+        for (IllegalValueException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        LoanBook loanBook = new LoanBook();
+        try {
+            loanBook.setLoans(Arrays.asList(loans));
+        } catch (DuplicateLoanException dle) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_LOAN, dle);
+        }
+        return loanBook;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,9 +1,13 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
@@ -26,6 +30,7 @@ public class CommandBox extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    private final ContextMenu completionMenu = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
@@ -35,6 +40,8 @@ public class CommandBox extends UiPart<Region> {
         this.logic = logic;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // the completions offered are stale once the text changes
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> completionMenu.hide());
         historySnapshot = logic.getHistorySnapshot();
     }
 
@@ -55,6 +62,11 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case TAB:
+            // consuming it keeps the focus in the command box
+            keyEvent.consume();
+            completeInput();
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -86,6 +98,49 @@ public class CommandBox extends UiPart<Region> {
         replaceText(historySnapshot.next());
     }
 
+    /**
+     * Completes the word at the end of the text field from the loan book. If it can be completed in more than one way,
+     * completes as much of it as the completions have in common and offers the completions to choose from.
+     */
+    private void completeInput() {
+        List<String> completions = logic.getCompletions(commandTextField.getText());
+        if (completions.isEmpty()) {
+            return;
+        }
+        String commonPrefix = getCommonPrefix(completions);
+        if (commonPrefix.length() > commandTextField.getText().length()) {
+            replaceText(commonPrefix);
+        }
+        if (completions.size() == 1) {
+            return;
+        }
+
+        completionMenu.getItems().clear();
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion.substring(completion.lastIndexOf(' ') + 1));
+            item.setMnemonicParsing(false);
+            item.setOnAction(unused -> replaceText(completion));
+            completionMenu.getItems().add(item);
+        }
+        completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+    }
+
+    /**
+     * Returns the longest prefix that all of {@code texts} start with.
+     */
+    private static String getCommonPrefix(List<String> texts) {
+        String commonPrefix = texts.get(0);
+        for (String text : texts) {
+            int length = 0;
+            while (length < commonPrefix.length() && length < text.length()
+                    && commonPrefix.charAt(length) == text.charAt(length)) {
+                length++;
+            }
+            commonPrefix = commonPrefix.substring(0, length);
+        }
+        return commonPrefix;
+    }
+
     /**
      * Sets {@code CommandBox}'s text field with {@code text} and
      * positions the caret to the end of the {@code text}.
@@ -113,6 +113,11 @@ public class UiManager extends ComponentManager implements Ui {
 
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
+        if (!Platform.isFxApplicationThread()) {
+            // raised by the storage's background writer; alerts can only be shown on the JavaFX thread
+            Platform.runLater(() -> handleDataSavingExceptionEvent(event));
+            return;
+        }
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
                 event.exception);
@@ -69,6 +69,7 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the loan book data stored inside the storage file.
      */
     public LoanBook readStorageLoanBook() {
+        storage.flush();
         try {
             return new LoanBook(storage.readLoanBook().get());
         } catch (DataConversionException dce) {
@@ -1,13 +1,17 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.util.CollectionUtil.findDuplicatePairs;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 import org.junit.Test;
 
@@ -81,6 +85,42 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void findDuplicatePairs_noDuplicates_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), findDuplicatePairs(Collections.emptyList(), Function.identity()));
+        assertEquals(Collections.emptyList(), findDuplicatePairs(Arrays.asList("a", "b", "c"), Function.identity()));
+    }
+
+    @Test
+    public void findDuplicatePairs_duplicates_returnsEveryPairInOrder() {
+        List<String> items = Arrays.asList("a", "b", "a", "c", "b", "a");
+        assertEquals(Arrays.asList(
+                new SimpleImmutableEntry<>("a", "a"),
+                new SimpleImmutableEntry<>("b", "b"),
+                new SimpleImmutableEntry<>("a", "a"),
+                new SimpleImmutableEntry<>("a", "a")),
+                findDuplicatePairs(items, Function.identity()));
+    }
+
+    @Test
+    public void findDuplicatePairs_multipleKeys_reportsEachPairOnce() {
+        List<String> items = Arrays.asList("ab", "ax", "yb", "ab");
+        Function<String, Character> firstLetter = item -> item.charAt(0);
+        Function<String, Character> secondLetter = item -> item.charAt(1);
+        assertEquals(Arrays.asList(
+                new SimpleImmutableEntry<>("ab", "ax"),
+                new SimpleImmutableEntry<>("ab", "yb"),
+                new SimpleImmutableEntry<>("ab", "ab"),
+                new SimpleImmutableEntry<>("ax", "ab"),
+                new SimpleImmutableEntry<>("yb", "ab")),
+                findDuplicatePairs(items, firstLetter, secondLetter));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void findDuplicatePairs_nullItem_throwsNullPointerException() {
+        findDuplicatePairs(Arrays.asList("a", null), Function.identity());
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -0,0 +1,78 @@
+package seedu.address.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class CompressionUtilTest {
+
+    private static final byte[] CONTENTS = String.join("", Collections.nCopies(100,
+            "<loans><tagged>friends</tagged></loans>\n")).getBytes(UTF_8);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void compress_invalidLevel_throwsIllegalArgumentException() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        CompressionUtil.compress(new ByteArrayOutputStream(), CompressionUtil.BEST_COMPRESSION + 1);
+    }
+
+    @Test
+    public void compressAndDecompress_everyLevel_sameContents() throws Exception {
+        for (int level = CompressionUtil.UNCOMPRESSED; level <= CompressionUtil.BEST_COMPRESSION; level++) {
+            byte[] compressed = compress(level);
+            if (level != CompressionUtil.UNCOMPRESSED) {
+                assertTrue(compressed.length < CONTENTS.length / 4);
+            }
+            try (InputStream in = CompressionUtil.decompress(new BufferedInputStream(
+                    new ByteArrayInputStream(compressed)))) {
+                assertArrayEquals(CONTENTS, in.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    public void isCompressed() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file");
+
+        Files.write(file, compress(CompressionUtil.BEST_SPEED));
+        assertTrue(CompressionUtil.isCompressed(file));
+
+        Files.write(file, compress(CompressionUtil.UNCOMPRESSED));
+        assertFalse(CompressionUtil.isCompressed(file));
+
+        // empty file
+        Files.write(file, new byte[0]);
+        assertFalse(CompressionUtil.isCompressed(file));
+    }
+
+    /**
+     * Returns {@code CONTENTS} compressed at {@code level}.
+     */
+    private static byte[] compress(int level) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = CompressionUtil.compress(bytes, level)) {
+            out.write(CONTENTS);
+        }
+        return bytes.toByteArray();
+    }
+}
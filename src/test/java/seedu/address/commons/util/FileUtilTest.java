@@ -1,14 +1,27 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +34,47 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void replaceAtomically_missingFileAndParent_fileCreated() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("missing").resolve("file.txt");
+        FileUtil.replaceAtomically(file, tempFile -> FileUtil.writeToFile(tempFile, "new"));
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void replaceAtomically_existingFile_permissionsKept() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        assumeTrue(Files.getFileStore(file).supportsFileAttributeView(PosixFileAttributeView.class));
+        Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-rw-r--"));
+
+        FileUtil.replaceAtomically(file, tempFile -> FileUtil.writeToFile(tempFile, "new"));
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(PosixFilePermissions.fromString("rw-rw-r--"), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void replaceAtomically_missingFile_defaultPermissions() throws Exception {
+        Path newFile = Files.createFile(testFolder.getRoot().toPath().resolve("new.txt"));
+        assumeTrue(Files.getFileStore(newFile).supportsFileAttributeView(PosixFileAttributeView.class));
+
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        FileUtil.replaceAtomically(file, tempFile -> FileUtil.writeToFile(tempFile, "new"));
+        assertEquals(Files.getPosixFilePermissions(newFile), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void replaceAtomically_writerFails_oldContentsKept() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        Assert.assertThrows(IOException.class, () -> FileUtil.replaceAtomically(file, tempFile -> {
+            FileUtil.writeToFile(tempFile, "ne");
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder.getRoot().toPath()).count());
+    }
+
 }
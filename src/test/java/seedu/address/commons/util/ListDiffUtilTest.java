@@ -0,0 +1,85 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.util.ListDiffUtil.Edit;
+
+public class ListDiffUtilTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void diff_nullSource_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        ListDiffUtil.diff(null, Collections.emptyList());
+    }
+
+    @Test
+    public void diff_equalLists_returnsNoEdits() {
+        assertEquals(Collections.emptyList(), ListDiffUtil.diff(Arrays.asList(1, 2, 3), Arrays.asList(1, 2, 3)));
+        assertEquals(Collections.emptyList(), ListDiffUtil.diff(Collections.emptyList(), Collections.emptyList()));
+    }
+
+    @Test
+    public void diff_singleElementReplaced_returnsSingleReplacement() {
+        assertEquals(Collections.singletonList(new Edit<>(1, 1, 1, Collections.singletonList(5))),
+                ListDiffUtil.diff(Arrays.asList(1, 2, 3), Arrays.asList(1, 5, 3)));
+    }
+
+    @Test
+    public void diff_insertionAndRemoval_returnsOnlyThoseEdits() {
+        // 2 is removed, 6 is inserted after 4
+        assertEquals(Arrays.asList(new Edit<>(1, 1, 1, Collections.emptyList()),
+                new Edit<>(3, 4, 0, Collections.singletonList(6))),
+                ListDiffUtil.diff(Arrays.asList(1, 2, 3, 4, 5), Arrays.asList(1, 3, 4, 6, 5)));
+    }
+
+    @Test
+    public void diff_elementMoved_keepsLongestCommonRun() {
+        // moving 1 to the end keeps 2, 3, 4 in place
+        assertEquals(Arrays.asList(new Edit<>(0, 0, 1, Collections.emptyList()),
+                new Edit<>(3, 4, 0, Collections.singletonList(1))),
+                ListDiffUtil.diff(Arrays.asList(1, 2, 3, 4), Arrays.asList(2, 3, 4, 1)));
+    }
+
+    @Test
+    public void diff_randomLists_editsTurnSourceIntoTarget() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            List<Integer> source = randomDistinctList(random);
+            List<Integer> target = randomDistinctList(random);
+            List<Integer> edited = new ArrayList<>(source);
+            for (Edit<Integer> edit : ListDiffUtil.diff(source, target)) {
+                assertEquals(source.subList(edit.getSourcePosition(),
+                        edit.getSourcePosition() + edit.getRemovedCount()),
+                        edited.subList(edit.getPosition(), edit.getPosition() + edit.getRemovedCount()));
+                edited.subList(edit.getPosition(), edit.getPosition() + edit.getRemovedCount()).clear();
+                edited.addAll(edit.getPosition(), edit.getAdded());
+            }
+            assertEquals(target, edited);
+        }
+    }
+
+    /**
+     * Returns a list of up to 20 distinct integers between 0 and 29, in random order.
+     */
+    private List<Integer> randomDistinctList(Random random) {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            elements.add(i);
+        }
+        Collections.shuffle(elements, random);
+        return new ArrayList<>(elements.subList(0, random.nextInt(21)));
+    }
+}
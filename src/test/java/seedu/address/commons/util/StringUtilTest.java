@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -137,6 +138,26 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullGiven_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.getEditDistance("abc", null);
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(3, StringUtil.getEditDistance("", "abc")); // Only insertions
+        assertEquals(3, StringUtil.getEditDistance("abc", "")); // Only deletions
+        assertEquals(0, StringUtil.getEditDistance("alice", "alice"));
+        assertEquals(1, StringUtil.getEditDistance("Alice", "alice")); // Case is significant
+        assertEquals(1, StringUtil.getEditDistance("benson", "bensn"));
+        assertEquals(2, StringUtil.getEditDistance("alxe", "alex")); // Transposition counts as two
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
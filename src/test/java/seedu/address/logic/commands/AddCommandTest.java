@@ -7,6 +7,8 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -21,6 +23,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyLoanBook;
 import seedu.address.model.bike.Bike;
 import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanIndex;
+import seedu.address.model.loan.Name;
 import seedu.address.testutil.LoanBuilder;
 
 public class AddCommandTest {
@@ -104,6 +108,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Bike> getBike(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addBike(Bike bike) {
             throw new AssertionError("This method should not be called.");
@@ -154,11 +163,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public LoanIndex getLoanIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredLoanList(Predicate<Loan> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredLoanList(Predicate<Loan> predicate, Comparator<Loan> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoLoanBook() {
             throw new AssertionError("This method should not be called.");
@@ -183,6 +202,11 @@ public class AddCommandTest {
         public void commitLoanBook() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public long getUndoHistoryFootprint() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
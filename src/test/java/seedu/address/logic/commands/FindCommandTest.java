@@ -5,7 +5,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_LOANS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalLoans.ALICE;
+import static seedu.address.testutil.TypicalLoans.BENSON;
 import static seedu.address.testutil.TypicalLoans.CARL;
+import static seedu.address.testutil.TypicalLoans.DANIEL;
 import static seedu.address.testutil.TypicalLoans.ELLE;
 import static seedu.address.testutil.TypicalLoans.FIONA;
 import static seedu.address.testutil.TypicalLoans.getTypicalLoanBook;
@@ -16,9 +19,11 @@ import java.util.Collections;
 import org.junit.Test;
 
 import seedu.address.logic.CommandHistory;
+import seedu.address.logic.parser.LoanQueryParser;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.loan.LoanQuery;
 import seedu.address.model.loan.NameContainsKeywordsPredicate;
 
 /**
@@ -76,6 +81,32 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredLoanList());
     }
 
+    @Test
+    public void execute_similarKeyword_loansFoundClosestFirst() throws Exception {
+        String expectedMessage = String.format(MESSAGE_LOANS_LISTED_OVERVIEW, 3);
+        CommandResult result = new FindCommand(preparePredicate("~meyr")).execute(model, commandHistory);
+        assertEquals(expectedMessage, result.feedbackToUser);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredLoanList());
+
+        // an exact keyword ranks first
+        new FindCommand(preparePredicate("~meyr Kurz")).execute(model, commandHistory);
+        assertEquals(Arrays.asList(CARL, ELLE, BENSON, DANIEL), model.getFilteredLoanList());
+
+        // the order of the loan book is restored by the next update of the filter
+        model.updateFilteredLoanList(preparePredicate("~meyr"));
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredLoanList());
+    }
+
+    @Test
+    public void execute_query_matchingLoansFound() throws Exception {
+        String expectedMessage = String.format(MESSAGE_LOANS_LISTED_OVERVIEW, 2);
+        LoanQuery query = LoanQueryParser.parse("t/friends NOT t/owesMoney");
+        FindCommand command = new FindCommand(query);
+        expectedModel.updateFilteredLoanList(query);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredLoanList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalLoans.getTypicalLoanBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.testutil.LoanBookBuilder;
+import seedu.address.testutil.LoanBuilder;
+
+public class CommandCompleterTest {
+
+    private final CommandCompleter completer = new CommandCompleter(getTypicalLoanBook().getLoanIndex());
+
+    @Test
+    public void complete_findKeyword_completedFromNames() {
+        assertEquals(Arrays.asList("find alice Meier", "find alice Meyer"), completer.complete("find alice me"));
+    }
+
+    @Test
+    public void complete_prefixedFindTerm_completedFromField() {
+        assertEquals(Collections.singletonList("find e/alice@example.com"), completer.complete("find e/al"));
+        assertEquals(Collections.singletonList("find alice t/owesMoney"), completer.complete("find alice t/ow"));
+        assertTrue(completer.complete("find x/a1").isEmpty());
+    }
+
+    @Test
+    public void complete_prefixedArgument_completedFromField() {
+        assertEquals(Collections.singletonList("add n/Alice"), completer.complete("add n/al"));
+        assertEquals(Collections.singletonList("add n/Alice Pauline"), completer.complete("add n/Alice Pa"));
+        assertEquals(Collections.singletonList("add p/94351253"), completer.complete("add p/943"));
+        assertEquals(Collections.singletonList("edit i/1 x/a12345 t/owesMoney"),
+                completer.complete("edit i/1 x/a12345 t/ow"));
+    }
+
+    @Test
+    public void complete_email_completedWhole() {
+        assertEquals(Collections.singletonList("add e/alice@example.com"), completer.complete("add e/al"));
+    }
+
+    @Test
+    public void complete_manyEmails_limitAppliedToWholeEmails() {
+        LoanBookBuilder loanBookBuilder = new LoanBookBuilder();
+        for (int i = 0; i < CommandCompleter.MAX_COMPLETIONS + 1; i++) {
+            loanBookBuilder.withLoan(new LoanBuilder().withName("Loaner " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("loaner" + i + "@example.com").build());
+        }
+        CommandCompleter emailCompleter = new CommandCompleter(loanBookBuilder.build().getLoanIndex());
+
+        List<String> completions = emailCompleter.complete("add e/loaner");
+        assertEquals(CommandCompleter.MAX_COMPLETIONS, completions.size());
+        assertTrue(completions.stream().allMatch(completion -> completion.endsWith("@example.com")));
+    }
+
+    @Test
+    public void complete_nothingToComplete_emptyList() {
+        assertTrue(completer.complete("").isEmpty());
+        assertTrue(completer.complete("fin").isEmpty());
+        assertTrue(completer.complete("find ").isEmpty());
+        assertTrue(completer.complete("list al").isEmpty());
+        assertTrue(completer.complete("add x/a1").isEmpty());
+        assertTrue(completer.complete("find zzz").isEmpty());
+    }
+}
@@ -20,6 +20,22 @@ public class FindCommandParserTest {
         assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_markerWithoutWord_throwsParseException() {
+        assertParseFailure(parser, "Alice ~", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_query_returnsFindCommandWithQuery() throws Exception {
+        String query = "n/Alice (t/friends OR t/family) NOT p/9123*";
+        assertParseSuccess(parser, " " + query, new FindCommand(LoanQueryParser.parse(query)));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, "n/Alice OR", String.format(LoanQueryParser.MESSAGE_MISSING_TERM, "OR"));
+    }
+
     @Test
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
@@ -0,0 +1,89 @@
+package seedu.address.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.loan.LoanIndex.Field;
+import seedu.address.model.loan.LoanQuery;
+
+public class LoanQueryParserTest {
+
+    private static final LoanQuery NAME_ALEX = LoanQuery.word(Field.NAME, "alex");
+    private static final LoanQuery TAG_FRIENDS = LoanQuery.word(Field.TAG, "friends");
+    private static final LoanQuery TAG_FAMILY = LoanQuery.word(Field.TAG, "family");
+    private static final LoanQuery PHONE_9123 = LoanQuery.wordPrefix(Field.PHONE, "9123");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void isQuery() {
+        assertTrue(LoanQueryParser.isQuery("n/alex"));
+        assertTrue(LoanQueryParser.isQuery("alex OR bob"));
+        assertTrue(LoanQueryParser.isQuery("(alex)"));
+        assertFalse(LoanQueryParser.isQuery("alex bob"));
+        assertFalse(LoanQueryParser.isQuery("alex x/a12345"));
+    }
+
+    @Test
+    public void parse_adjacentTerms_combinedWithAnd() throws Exception {
+        LoanQuery expected = LoanQuery.and(Arrays.asList(NAME_ALEX, TAG_FRIENDS, PHONE_9123));
+        assertEquals(expected, LoanQueryParser.parse("n/alex t/friends p/9123*"));
+        assertEquals(expected, LoanQueryParser.parse("alex AND t/friends AND p/9123*"));
+    }
+
+    @Test
+    public void parse_operators_notBindsTighterThanAndThanOr() throws Exception {
+        assertEquals(LoanQuery.or(Arrays.asList(
+                LoanQuery.and(Arrays.asList(NAME_ALEX, LoanQuery.not(TAG_FRIENDS))), TAG_FAMILY)),
+                LoanQueryParser.parse("n/alex NOT t/friends OR t/family"));
+    }
+
+    @Test
+    public void parse_parentheses_groupedFirst() throws Exception {
+        assertEquals(LoanQuery.and(Arrays.asList(NAME_ALEX,
+                LoanQuery.or(Arrays.asList(TAG_FRIENDS, TAG_FAMILY)), LoanQuery.not(PHONE_9123))),
+                LoanQueryParser.parse("n/alex (t/friends OR t/family) NOT p/9123*"));
+    }
+
+    @Test
+    public void parse_email_matchedWhole() throws Exception {
+        assertEquals(LoanQuery.word(Field.EMAIL, "alice@example.com"), LoanQueryParser.parse("e/alice@example.com"));
+    }
+
+    @Test
+    public void parse_invalidTerm_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(LoanQueryParser.MESSAGE_INVALID_TERM, "a/#08-111"));
+        LoanQueryParser.parse("n/alex a/#08-111");
+    }
+
+    @Test
+    public void parse_missingTerm_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(LoanQueryParser.MESSAGE_MISSING_TERM, "OR"));
+        LoanQueryParser.parse("n/alex OR");
+    }
+
+    @Test
+    public void parse_unclosedParenthesis_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(LoanQueryParser.MESSAGE_UNCLOSED_PARENTHESIS);
+        LoanQueryParser.parse("(n/alex OR t/friends");
+    }
+
+    @Test
+    public void parse_unopenedParenthesis_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(LoanQueryParser.MESSAGE_UNEXPECTED_TOKEN, ")"));
+        LoanQueryParser.parse("n/alex) t/friends");
+    }
+}
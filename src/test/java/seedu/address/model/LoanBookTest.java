@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -92,6 +93,19 @@ public class LoanBookTest {
         assertTrue(loanBook.hasBike(BIKE1));
     }
 
+    @Test
+    public void getBike_nullName_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        loanBook.getBike(null);
+    }
+
+    @Test
+    public void getBike_bikeInLoanBook_returnsBike() {
+        assertEquals(Optional.empty(), loanBook.getBike(BIKE1.getName()));
+        loanBook.addBike(BIKE1);
+        assertEquals(Optional.of(BIKE1), loanBook.getBike(BIKE1.getName()));
+    }
+
     @Test
     public void hasLoan_loanInLoanBook_returnsTrue() {
         loanBook.addLoan(ALICE);
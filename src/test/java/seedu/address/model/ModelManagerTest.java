@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_BIKES;
@@ -11,6 +12,7 @@ import static seedu.address.testutil.TypicalLoans.BENSON;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -53,6 +55,19 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasBike(BIKE1));
     }
 
+    @Test
+    public void getBike_nullName_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        modelManager.getBike(null);
+    }
+
+    @Test
+    public void getBike_bikeInLoanBook_returnsBike() {
+        assertEquals(Optional.empty(), modelManager.getBike(BIKE1.getName()));
+        modelManager.addBike(BIKE1);
+        assertEquals(Optional.of(BIKE1), modelManager.getBike(BIKE1.getName()));
+    }
+
     @Test
     public void hasLoan_loanInLoanBook_returnsTrue() {
         modelManager.addLoan(ALICE);
@@ -71,6 +86,24 @@ public class ModelManagerTest {
         modelManager.getFilteredLoanList().remove(0);
     }
 
+    @Test
+    public void commitLoanBook_maxUndoDepthInUserPrefs_historyBounded() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxUndoDepth(1);
+        modelManager = new ModelManager(new LoanBook(), userPrefs);
+        assertEquals(0, modelManager.getUndoHistoryFootprint());
+
+        modelManager.addLoan(ALICE);
+        modelManager.commitLoanBook();
+        modelManager.addLoan(BENSON);
+        modelManager.commitLoanBook();
+        assertTrue(modelManager.getUndoHistoryFootprint() > 0);
+
+        modelManager.undoLoanBook();
+        assertFalse(modelManager.canUndoLoanBook());
+        assertTrue(modelManager.hasLoan(ALICE));
+    }
+
     @Test
     public void equals() {
         LoanBook loanBook = new LoanBookBuilder()
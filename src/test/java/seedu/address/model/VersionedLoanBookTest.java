@@ -4,17 +4,27 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalBikes.BIKE1;
+import static seedu.address.testutil.TypicalBikes.BIKE2;
 import static seedu.address.testutil.TypicalLoans.AMY;
 import static seedu.address.testutil.TypicalLoans.BOB;
 import static seedu.address.testutil.TypicalLoans.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.VersionedLoanBook.HistoryMode;
+import seedu.address.model.bike.Bike;
+import seedu.address.model.loan.Loan;
+import seedu.address.testutil.BikeBuilder;
 import seedu.address.testutil.LoanBookBuilder;
+import seedu.address.testutil.LoanBuilder;
 
 public class VersionedLoanBookTest {
 
@@ -207,6 +217,128 @@ public class VersionedLoanBookTest {
         assertThrows(VersionedLoanBook.NoRedoableStateException.class, versionedLoanBook::redo);
     }
 
+    @Test
+    public void undoRedo_singleLoanChangesToLargeLoanBook_restoresEachCommittedState() {
+        assertSingleLoanChangesUndoable(HistoryMode.SNAPSHOT);
+    }
+
+    @Test
+    public void undoRedo_operationLogSingleLoanChanges_restoresEachCommittedState() {
+        assertSingleLoanChangesUndoable(HistoryMode.OPERATION_LOG);
+    }
+
+    @Test
+    public void undoRedo_operationLogWholeBookReset_restoresEachCommittedState() {
+        VersionedLoanBook versionedLoanBook = new VersionedLoanBook(loanBookWithAmy, HistoryMode.OPERATION_LOG,
+                Integer.MAX_VALUE, Long.MAX_VALUE);
+        versionedLoanBook.resetData(emptyLoanBook);
+        versionedLoanBook.commit();
+        versionedLoanBook.resetData(loanBookWithBob);
+        versionedLoanBook.commit();
+
+        assertLoanBookListStatus(versionedLoanBook,
+                Arrays.asList(loanBookWithAmy, emptyLoanBook),
+                loanBookWithBob,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_operationLogWithUncommittedChanges_uncommittedChangesDiscarded() {
+        VersionedLoanBook versionedLoanBook = new VersionedLoanBook(emptyLoanBook, HistoryMode.OPERATION_LOG,
+                Integer.MAX_VALUE, Long.MAX_VALUE);
+        versionedLoanBook.addLoan(AMY);
+        versionedLoanBook.commit();
+        versionedLoanBook.addLoan(BOB);
+
+        versionedLoanBook.undo();
+        assertEquals(emptyLoanBook, new LoanBook(versionedLoanBook));
+        versionedLoanBook.redo();
+        assertEquals(loanBookWithAmy, new LoanBook(versionedLoanBook));
+    }
+
+    @Test
+    public void undoRedo_snapshotReorderingReset_restoresEachCommittedState() {
+        assertReorderingResetUndoable(HistoryMode.SNAPSHOT);
+    }
+
+    @Test
+    public void undoRedo_operationLogReorderingReset_restoresEachCommittedState() {
+        assertReorderingResetUndoable(HistoryMode.OPERATION_LOG);
+    }
+
+    @Test
+    public void undo_snapshotSingleLoanUpdate_onlyThatLoanReplaced() {
+        assertUndoReplacesOnlyEditedLoan(HistoryMode.SNAPSHOT);
+    }
+
+    @Test
+    public void undo_operationLogSingleLoanUpdate_onlyThatLoanReplaced() {
+        assertUndoReplacesOnlyEditedLoan(HistoryMode.OPERATION_LOG);
+    }
+
+    @Test
+    public void constructor_negativeMaxUndoDepth_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new VersionedLoanBook(emptyLoanBook, HistoryMode.SNAPSHOT, -1, 0));
+    }
+
+    @Test
+    public void commit_overMaxUndoDepth_oldestStatesEvicted() {
+        VersionedLoanBook versionedLoanBook = new VersionedLoanBook(emptyLoanBook, HistoryMode.SNAPSHOT, 2,
+                Long.MAX_VALUE);
+        for (ReadOnlyLoanBook loanBook : Arrays.asList(loanBookWithAmy, loanBookWithBob, loanBookWithCarl)) {
+            versionedLoanBook.resetData(loanBook);
+            versionedLoanBook.commit();
+        }
+
+        assertLoanBookListStatus(versionedLoanBook,
+                Arrays.asList(loanBookWithAmy, loanBookWithBob),
+                loanBookWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_overByteBudget_oldestStatesEvictedUntilWithinBudget() {
+        VersionedLoanBook unbounded = prepareLoanBookList(loanBookWithAmy, loanBookWithBob);
+        long bytesPerState = unbounded.getHistoryFootprint();
+        assertTrue(bytesPerState > 0);
+
+        VersionedLoanBook versionedLoanBook = new VersionedLoanBook(emptyLoanBook, HistoryMode.SNAPSHOT,
+                Integer.MAX_VALUE, bytesPerState * 2);
+        for (ReadOnlyLoanBook loanBook : Arrays.asList(loanBookWithAmy, loanBookWithBob, loanBookWithCarl)) {
+            versionedLoanBook.resetData(loanBook);
+            versionedLoanBook.commit();
+            assertTrue(versionedLoanBook.getHistoryFootprint() <= bytesPerState * 2);
+        }
+
+        assertLoanBookListStatus(versionedLoanBook,
+                Arrays.asList(loanBookWithAmy, loanBookWithBob),
+                loanBookWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_zeroByteBudget_onlyCurrentStateKept() {
+        VersionedLoanBook versionedLoanBook = new VersionedLoanBook(emptyLoanBook, HistoryMode.SNAPSHOT,
+                Integer.MAX_VALUE, 0);
+        versionedLoanBook.resetData(loanBookWithAmy);
+        versionedLoanBook.commit();
+
+        assertFalse(versionedLoanBook.canUndo());
+        assertEquals(0, versionedLoanBook.getHistoryFootprint());
+        assertEquals(loanBookWithAmy, new LoanBook(versionedLoanBook));
+    }
+
+    @Test
+    public void getHistoryFootprint_undoneStatesDiscarded_footprintShrinks() {
+        VersionedLoanBook versionedLoanBook = prepareLoanBookList(emptyLoanBook, loanBookWithAmy, loanBookWithBob);
+        long footprintWithTwoChanges = versionedLoanBook.getHistoryFootprint();
+        shiftCurrentStatePointerLeftwards(versionedLoanBook, 1);
+
+        versionedLoanBook.commit();
+        assertTrue(versionedLoanBook.getHistoryFootprint() < footprintWithTwoChanges);
+    }
+
     @Test
     public void equals() {
         VersionedLoanBook versionedLoanBook = prepareLoanBookList(loanBookWithAmy, loanBookWithBob);
@@ -287,6 +419,107 @@ public class VersionedLoanBookTest {
         return versionedLoanBook;
     }
 
+    /**
+     * Asserts that undoing an edit of a single loan, with a history saved as described by {@code historyMode},
+     * changes the loan list by replacing only that loan.
+     */
+    private void assertUndoReplacesOnlyEditedLoan(HistoryMode historyMode) {
+        VersionedLoanBook versionedLoanBook = new VersionedLoanBook(new LoanBookBuilder().withLoan(AMY)
+                .withLoan(BOB).build(), historyMode, Integer.MAX_VALUE, Long.MAX_VALUE);
+        Loan editedBob = new LoanBuilder(BOB).withAddress("Edited address").build();
+        versionedLoanBook.updateLoan(BOB, editedBob);
+        versionedLoanBook.commit();
+
+        List<Loan> removedLoans = new ArrayList<>();
+        List<Loan> addedLoans = new ArrayList<>();
+        ObservableList<Loan> loanList = versionedLoanBook.getLoanList();
+        loanList.addListener((ListChangeListener<Loan>) change -> {
+            while (change.next()) {
+                removedLoans.addAll(change.getRemoved());
+                addedLoans.addAll(change.getAddedSubList());
+            }
+        });
+        versionedLoanBook.undo();
+
+        assertEquals(Collections.singletonList(editedBob), removedLoans);
+        assertEquals(Collections.singletonList(BOB), addedLoans);
+        assertEquals(Arrays.asList(AMY, BOB), loanList);
+    }
+
+    /**
+     * Asserts that resetting the loan book to the same bikes and loans in another order, with a history saved as
+     * described by {@code historyMode}, can be undone and redone.
+     */
+    private void assertReorderingResetUndoable(HistoryMode historyMode) {
+        Bike bike3 = new BikeBuilder().withName("BIKE003").build();
+        ReadOnlyLoanBook initialState = new LoanBookBuilder().withBike(BIKE1).withBike(BIKE2).withBike(bike3)
+                .withLoan(AMY).withLoan(BOB).withLoan(CARL).build();
+        ReadOnlyLoanBook reorderedState = new LoanBookBuilder().withBike(bike3).withBike(BIKE1).withBike(BIKE2)
+                .withLoan(CARL).withLoan(AMY).withLoan(BOB).build();
+        VersionedLoanBook versionedLoanBook = new VersionedLoanBook(initialState, historyMode, Integer.MAX_VALUE,
+                Long.MAX_VALUE);
+
+        versionedLoanBook.resetData(reorderedState);
+        versionedLoanBook.commit();
+        versionedLoanBook.resetData(initialState);
+        versionedLoanBook.commit();
+
+        assertLoanBookListStatus(versionedLoanBook,
+                Arrays.asList(initialState, reorderedState),
+                initialState,
+                Collections.emptyList());
+    }
+
+    /**
+     * Asserts that adding, updating and removing single loans of a large loan book, with a history saved as described
+     * by {@code historyMode}, can be undone and redone.
+     */
+    private void assertSingleLoanChangesUndoable(HistoryMode historyMode) {
+        LoanBookBuilder loanBookBuilder = new LoanBookBuilder();
+        for (int i = 0; i < 40; i++) {
+            loanBookBuilder.withLoan(buildLoan(i));
+        }
+        ReadOnlyLoanBook initialState = loanBookBuilder.build();
+        VersionedLoanBook versionedLoanBook = new VersionedLoanBook(initialState, historyMode, Integer.MAX_VALUE,
+                Long.MAX_VALUE);
+
+        versionedLoanBook.addLoan(buildLoan(40));
+        versionedLoanBook.commit();
+        LoanBook afterAdd = new LoanBook(versionedLoanBook);
+
+        Loan editedLoan = new LoanBuilder(buildLoan(10)).withAddress("Edited address").build();
+        versionedLoanBook.updateLoan(buildLoan(10), editedLoan);
+        versionedLoanBook.commit();
+        LoanBook afterUpdate = new LoanBook(versionedLoanBook);
+
+        versionedLoanBook.removeLoan(buildLoan(20));
+        versionedLoanBook.commit();
+        LoanBook afterRemove = new LoanBook(versionedLoanBook);
+
+        assertLoanBookListStatus(versionedLoanBook,
+                Arrays.asList(initialState, afterAdd, afterUpdate),
+                afterRemove,
+                Collections.emptyList());
+
+        // changes made after undoing are tracked from the restored state
+        versionedLoanBook.undo();
+        versionedLoanBook.removeLoan(buildLoan(0));
+        versionedLoanBook.commit();
+        LoanBook afterUndoAndRemove = new LoanBook(versionedLoanBook);
+        assertLoanBookListStatus(versionedLoanBook,
+                Arrays.asList(initialState, afterAdd, afterUpdate),
+                afterUndoAndRemove,
+                Collections.emptyList());
+    }
+
+    /**
+     * Returns a loan whose name, phone and email are distinct for each {@code seed}.
+     */
+    private Loan buildLoan(int seed) {
+        return new LoanBuilder().withName("Loaner " + seed).withPhone(String.valueOf(80000000 + seed))
+                .withEmail("loaner" + seed + "@example.com").build();
+    }
+
     /**
      * Shifts the {@code versionedLoanBook#currentStatePointer} by {@code count} to the left of its list.
      */
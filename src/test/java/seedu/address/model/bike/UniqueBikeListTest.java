@@ -6,16 +6,22 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalBikes.BIKE1;
 import static seedu.address.testutil.TypicalBikes.BIKE2;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.bike.exceptions.BikeNotFoundException;
 import seedu.address.model.bike.exceptions.DuplicateBikeException;
+import seedu.address.model.loan.Name;
+import seedu.address.testutil.BikeBuilder;
 
 public class UniqueBikeListTest {
     @Rule
@@ -40,6 +46,52 @@ public class UniqueBikeListTest {
         assertTrue(uniqueBikeList.contains(BIKE1));
     }
 
+    @Test
+    public void getBikeNullNameThrowsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueBikeList.getBike(null);
+    }
+
+    @Test
+    public void getBikeNameNotInListReturnsEmpty() {
+        uniqueBikeList.add(BIKE1);
+        assertEquals(Optional.empty(), uniqueBikeList.getBike(BIKE2.getName()));
+    }
+
+    @Test
+    public void getBikeNameInListReturnsBike() {
+        uniqueBikeList.add(BIKE1);
+        uniqueBikeList.add(BIKE2);
+        assertEquals(Optional.of(BIKE2), uniqueBikeList.getBike(new Name(BIKE2.getName().value)));
+    }
+
+    @Test
+    public void getBikeAfterRemovingEarlierBikeReturnsBike() {
+        uniqueBikeList.add(BIKE1);
+        uniqueBikeList.add(BIKE2);
+        uniqueBikeList.remove(BIKE1);
+        assertEquals(Optional.empty(), uniqueBikeList.getBike(BIKE1.getName()));
+        assertEquals(Optional.of(BIKE2), uniqueBikeList.getBike(BIKE2.getName()));
+        uniqueBikeList.remove(BIKE2);
+        assertEquals(Collections.emptyList(), uniqueBikeList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getBikeAfterSetBikeReturnsEditedBike() {
+        uniqueBikeList.add(BIKE1);
+        uniqueBikeList.setBike(BIKE1, BIKE2);
+        assertFalse(uniqueBikeList.contains(BIKE1));
+        assertEquals(Optional.of(BIKE2), uniqueBikeList.getBike(BIKE2.getName()));
+    }
+
+    @Test
+    public void getBikeAfterSetBikesReturnsReplacementBike() {
+        uniqueBikeList.add(BIKE1);
+        uniqueBikeList.setBikes(Collections.singletonList(BIKE2));
+        assertEquals(Optional.empty(), uniqueBikeList.getBike(BIKE1.getName()));
+        assertEquals(Optional.of(BIKE2), uniqueBikeList.getBike(BIKE2.getName()));
+    }
+
     @Test
     public void addNullBikeThrowsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -117,6 +169,34 @@ public class UniqueBikeListTest {
         assertEquals(expectedUniqueBikeList, uniqueBikeList);
     }
 
+    @Test
+    public void replaceRangeReplacesOnlyThatRangeAndKeepsLookupsInSync() {
+        Bike bike3 = new BikeBuilder().withName("BIKE003").build();
+        uniqueBikeList.add(BIKE1);
+        uniqueBikeList.add(BIKE2);
+        uniqueBikeList.replaceRange(0, 1, Collections.emptyList());
+        uniqueBikeList.replaceRange(1, 0, Collections.singletonList(bike3));
+        uniqueBikeList.replaceRange(0, 1, Collections.singletonList(BIKE1));
+
+        UniqueBikeList expectedUniqueBikeList = new UniqueBikeList();
+        expectedUniqueBikeList.add(BIKE1);
+        expectedUniqueBikeList.add(bike3);
+        assertEquals(expectedUniqueBikeList, uniqueBikeList);
+        assertEquals(Optional.of(bike3), uniqueBikeList.getBike(bike3.getName()));
+        assertEquals(Optional.empty(), uniqueBikeList.getBike(BIKE2.getName()));
+
+        uniqueBikeList.remove(bike3);
+        assertEquals(Optional.of(BIKE1), uniqueBikeList.getBike(BIKE1.getName()));
+    }
+
+    @Test
+    public void replaceRangeDuplicateOfRemainingBikeThrowsDuplicateBikeException() {
+        uniqueBikeList.add(BIKE1);
+        uniqueBikeList.add(BIKE2);
+        thrown.expect(DuplicateBikeException.class);
+        uniqueBikeList.replaceRange(1, 1, Collections.singletonList(BIKE1));
+    }
+
     @Test
     public void setBikesNullUniqueBikeListThrowsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -155,6 +235,61 @@ public class UniqueBikeListTest {
         uniqueBikeList.setBikes(listWithDuplicateBikes);
     }
 
+    @Test
+    public void findDuplicateBikesReturnsEveryDuplicatePair() {
+        assertEquals(Collections.emptyList(), UniqueBikeList.findDuplicateBikes(Arrays.asList(BIKE1, BIKE2)));
+        assertEquals(Arrays.asList(
+                new SimpleImmutableEntry<>(BIKE1, BIKE1),
+                new SimpleImmutableEntry<>(BIKE2, BIKE2)),
+                UniqueBikeList.findDuplicateBikes(Arrays.asList(BIKE1, BIKE2, BIKE1, BIKE2)));
+    }
+
+    @Test
+    public void addSetAndRemoveBikeListenersSeeUpdatedPositions() {
+        List<Boolean> positionsUpToDate = recordWhetherPositionsUpToDate();
+        Bike bike3 = new BikeBuilder().withName("BIKE003").build();
+
+        uniqueBikeList.add(BIKE1);
+        uniqueBikeList.add(BIKE2);
+        uniqueBikeList.setBike(BIKE1, bike3);
+        uniqueBikeList.remove(bike3);
+        assertEquals(Arrays.asList(true, true, true, true), positionsUpToDate);
+    }
+
+    @Test
+    public void setBikesAndReplaceRangeListenersSeeUpdatedPositions() {
+        Bike bike3 = new BikeBuilder().withName("BIKE003").build();
+        Bike bike4 = new BikeBuilder().withName("BIKE004").build();
+        Bike bike5 = new BikeBuilder().withName("BIKE005").build();
+        uniqueBikeList.setBikes(Arrays.asList(BIKE1, BIKE2, bike3, bike4));
+        List<Boolean> positionsUpToDate = recordWhetherPositionsUpToDate();
+
+        uniqueBikeList.setBikes(Arrays.asList(bike4, BIKE2, bike5, BIKE1));
+        uniqueBikeList.replaceRange(1, 2, Collections.singletonList(bike3));
+        UniqueBikeList replacement = new UniqueBikeList();
+        replacement.setBikes(Arrays.asList(bike5, BIKE2));
+        uniqueBikeList.setBikes(replacement);
+        assertFalse(positionsUpToDate.isEmpty());
+        assertFalse(positionsUpToDate.contains(false));
+    }
+
+    /**
+     * Returns a list to which a listener of {@code uniqueBikeList} adds, for every change it sees, whether the bikes
+     * it removes are no longer found by name and every bike in the list is found by its name.
+     */
+    private List<Boolean> recordWhetherPositionsUpToDate() {
+        List<Boolean> positionsUpToDate = new ArrayList<>();
+        uniqueBikeList.asUnmodifiableObservableList().addListener((ListChangeListener<Bike>) change -> {
+            while (change.next()) {
+                positionsUpToDate.add(change.getRemoved().stream()
+                        .allMatch(bike -> change.getList().contains(bike) || !uniqueBikeList.contains(bike))
+                        && change.getList().stream()
+                        .allMatch(bike -> uniqueBikeList.getBike(bike.getName()).equals(Optional.of(bike))));
+            }
+        });
+        return positionsUpToDate;
+    }
+
     @Test
     public void asUnmodifiableObservableListModifyListThrowsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
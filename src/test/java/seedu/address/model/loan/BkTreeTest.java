@@ -0,0 +1,51 @@
+package seedu.address.model.loan;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class BkTreeTest {
+
+    private static final List<String> WORDS = Arrays.asList("alice", "alex", "alexa", "benson", "bensen", "carl",
+            "karl", "kurz", "kunz", "meier", "meyer", "daniel", "elle", "ella", "fiona", "george");
+
+    @Test
+    public void search_emptyTree_nothingFound() {
+        assertTrue(new BkTree().search("alice", 2).isEmpty());
+    }
+
+    @Test
+    public void add_duplicateWord_addedOnce() {
+        BkTree tree = new BkTree();
+        tree.add("alice");
+        tree.add("alice");
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void search_anyDistance_sameAsComparingEveryWord() {
+        BkTree tree = new BkTree();
+        WORDS.forEach(tree::add);
+
+        for (String query : Arrays.asList("alxe", "benson", "kartz", "meir", "zzz")) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                Map<String, Integer> expected = new HashMap<>();
+                for (String word : WORDS) {
+                    int distance = StringUtil.getEditDistance(query, word);
+                    if (distance <= maxDistance) {
+                        expected.put(word, distance);
+                    }
+                }
+                assertEquals(expected, tree.search(query, maxDistance));
+            }
+        }
+    }
+}
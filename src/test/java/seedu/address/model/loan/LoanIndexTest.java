@@ -0,0 +1,145 @@
+package seedu.address.model.loan;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalLoans.ALICE;
+import static seedu.address.testutil.TypicalLoans.BENSON;
+import static seedu.address.testutil.TypicalLoans.CARL;
+import static seedu.address.testutil.TypicalLoans.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.loan.LoanIndex.Field;
+import seedu.address.testutil.LoanBuilder;
+
+public class LoanIndexTest {
+
+    private UniqueLoanList loans;
+    private LoanIndex index;
+
+    @Before
+    public void setUp() {
+        loans = new UniqueLoanList();
+        loans.setLoans(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        index = loans.getWordIndex();
+    }
+
+    @Test
+    public void getWords_allFields_caseFoldedRunsOfLettersAndDigits() {
+        assertEquals(Arrays.asList("alice", "pauline"), LoanIndex.getWords(ALICE, Field.NAME));
+        assertEquals(Arrays.asList("123", "jurong", "west", "ave", "6", "08", "111"),
+                LoanIndex.getWords(ALICE, Field.ADDRESS));
+        assertEquals(Arrays.asList("alice", "example", "com", "alice@example.com"),
+                LoanIndex.getWords(ALICE, Field.EMAIL));
+        assertEquals(Collections.singletonList("friends"), LoanIndex.getWords(ALICE, Field.TAG));
+    }
+
+    @Test
+    public void getLoans_anyCase_found() {
+        assertEquals(setOf(BENSON, DANIEL), index.getLoans(Field.NAME, "MEIER"));
+        assertEquals(setOf(CARL), index.getLoans(Field.ADDRESS, "Wall"));
+        assertEquals(setOf(BENSON), index.getLoans(Field.EMAIL, "JohnD@example.com"));
+        assertEquals(setOf(ALICE, BENSON, DANIEL), index.getLoans(Field.TAG, "friends"));
+        assertTrue(index.getLoans(Field.NAME, "Meie").isEmpty());
+        assertTrue(index.getLoans(Field.NAME, "street").isEmpty());
+    }
+
+    @Test
+    public void findAnyAndFindAll_severalWords_unionAndIntersection() {
+        assertEquals(setOf(ALICE, BENSON, DANIEL), index.findAny(Field.NAME, Arrays.asList("alice", "meier")));
+        assertEquals(setOf(BENSON), index.findAll(Field.NAME, Arrays.asList("meier", "benson")));
+        assertTrue(index.findAll(Field.NAME, Arrays.asList("meier", "alice")).isEmpty());
+        assertTrue(index.findAll(Field.NAME, Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void complete_prefix_wordsInAlphabeticalOrder() {
+        assertEquals(Collections.singletonList("Meier"), index.complete(Field.NAME, "ME", 10));
+        assertEquals(Arrays.asList("94351253", "95352563", "98765432"), index.complete(Field.PHONE, "9", 10));
+        assertEquals(Collections.singletonList("owesMoney"), index.complete(Field.TAG, "o", 10));
+        assertEquals(Arrays.asList("Alice", "Benson"), index.complete(Field.NAME, "", 2));
+        assertTrue(index.complete(Field.NAME, "Zed", 10).isEmpty());
+    }
+
+    @Test
+    public void complete_filter_limitAppliedToAcceptedWords() {
+        assertEquals(Arrays.asList("94351253", "98765432"),
+                index.complete(Field.PHONE, "9", phone -> !phone.startsWith("95"), 2));
+    }
+
+    @Test
+    public void findPrefixed_prefix_unionOfWordsStartingWithIt() {
+        assertEquals(setOf(ALICE, BENSON, CARL), index.findPrefixed(Field.PHONE, "9"));
+        assertEquals(setOf(ALICE, BENSON, DANIEL), index.findPrefixed(Field.TAG, "F"));
+        assertEquals(setOf(BENSON, DANIEL), index.findPrefixed(Field.NAME, "mei"));
+        assertTrue(index.findPrefixed(Field.NAME, "meiz").isEmpty());
+    }
+
+    @Test
+    public void findSimilarWords_misspeltWord_similarWordsWithDistances() {
+        assertEquals(Collections.singletonMap("meier", 1), index.findSimilarWords(Field.NAME, "MEIR", 1));
+        assertEquals(Collections.singletonMap("benson", 1), index.findSimilarWords(Field.NAME, "bnson", 2));
+        assertTrue(index.findSimilarWords(Field.NAME, "bnson", 0).isEmpty());
+    }
+
+    @Test
+    public void distanceToAny_listChanged_followsIndex() {
+        ToIntFunction<Loan> distance = index.distanceToAny(Field.NAME, Collections.singletonMap("meir", 1));
+        assertEquals(1, distance.applyAsInt(BENSON));
+        assertEquals(-1, distance.applyAsInt(ALICE));
+
+        Loan editedAlice = new LoanBuilder(ALICE).withName("Alice Mei").build();
+        loans.setLoan(ALICE, editedAlice);
+        loans.remove(new LoanBuilder(BENSON).build());
+        assertEquals(1, distance.applyAsInt(editedAlice));
+        assertEquals(-1, distance.applyAsInt(BENSON));
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("mei", 1);
+        expected.put("meier", 1);
+        assertEquals(expected, index.findSimilarWords(Field.NAME, "meir", 1));
+        assertTrue(index.findSimilarWords(Field.NAME, "benso", 1).isEmpty());
+    }
+
+    @Test
+    public void listChanged_indexFollows() {
+        Loan editedAlice = new LoanBuilder(ALICE).withName("Alice Meier").build();
+        loans.setLoan(ALICE, editedAlice);
+        loans.remove(new LoanBuilder(BENSON).build());
+        loans.add(new LoanBuilder().withName("George Meier").build());
+
+        assertTrue(index.getLoans(Field.NAME, "pauline").isEmpty());
+        assertEquals(3, index.getLoans(Field.NAME, "meier").size());
+        assertTrue(index.getLoans(Field.NAME, "meier").contains(editedAlice));
+        assertFalse(index.getLoans(Field.NAME, "benson").contains(BENSON));
+
+        loans.setLoans(Collections.singletonList(CARL));
+        assertTrue(index.getLoans(Field.NAME, "meier").isEmpty());
+        assertEquals(setOf(CARL), index.getLoans(Field.NAME, "kurz"));
+    }
+
+    @Test
+    public void matchingAny_listChanged_matchesChangedLoans() {
+        Predicate<Loan> predicate = index.matchingAny(Field.NAME, Collections.singletonList("meier"));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(ALICE));
+
+        Loan editedAlice = new LoanBuilder(ALICE).withName("Alice Meier").build();
+        loans.setLoan(ALICE, editedAlice);
+        assertTrue(predicate.test(editedAlice));
+    }
+
+    private static Set<Loan> setOf(Loan... loans) {
+        return new HashSet<>(Arrays.asList(loans));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.loan;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalLoans.ALICE;
+import static seedu.address.testutil.TypicalLoans.BENSON;
+import static seedu.address.testutil.TypicalLoans.CARL;
+import static seedu.address.testutil.TypicalLoans.DANIEL;
+import static seedu.address.testutil.TypicalLoans.ELLE;
+import static seedu.address.testutil.TypicalLoans.FIONA;
+import static seedu.address.testutil.TypicalLoans.GEORGE;
+import static seedu.address.testutil.TypicalLoans.getTypicalLoans;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.loan.LoanIndex.Field;
+import seedu.address.testutil.LoanBuilder;
+
+public class LoanQueryTest {
+
+    private static final LoanQuery NAME_MEIER = LoanQuery.word(Field.NAME, "Meier");
+    private static final LoanQuery TAG_FRIENDS = LoanQuery.word(Field.TAG, "friends");
+    private static final LoanQuery TAG_OWES_MONEY = LoanQuery.word(Field.TAG, "owesMoney");
+    private static final LoanQuery PHONE_9 = LoanQuery.wordPrefix(Field.PHONE, "9");
+
+    private UniqueLoanList loans;
+    private LoanIndex index;
+
+    @Before
+    public void setUp() {
+        loans = new UniqueLoanList();
+        loans.setLoans(getTypicalLoans());
+        index = loans.getWordIndex();
+    }
+
+    @Test
+    public void equals_sameQuery_equalWithSameHashCode() {
+        LoanQuery query = LoanQuery.or(Arrays.asList(LoanQuery.and(Arrays.asList(NAME_MEIER, PHONE_9)),
+                LoanQuery.not(TAG_FRIENDS)));
+        LoanQuery copy = LoanQuery.or(Arrays.asList(LoanQuery.and(Arrays.asList(LoanQuery.word(Field.NAME, "meier"),
+                LoanQuery.wordPrefix(Field.PHONE, "9"))), LoanQuery.not(LoanQuery.word(Field.TAG, "Friends"))));
+        assertEquals(query, copy);
+        assertEquals(query.hashCode(), copy.hashCode());
+    }
+
+    @Test
+    public void using_terms_sameLoansAsTesting() {
+        assertMatches(Arrays.asList(BENSON, DANIEL), NAME_MEIER);
+        assertMatches(Arrays.asList(ALICE, BENSON, CARL, ELLE, FIONA, GEORGE), PHONE_9);
+        assertMatches(Arrays.asList(BENSON), LoanQuery.word(Field.EMAIL, "JOHND@example.com"));
+    }
+
+    @Test
+    public void using_andWithNot_notTestedOnCandidatesOnly() {
+        LoanQuery query = LoanQuery.and(Arrays.asList(TAG_FRIENDS, LoanQuery.not(TAG_OWES_MONEY), PHONE_9));
+        assertMatches(Arrays.asList(ALICE), query);
+        assertEquals(1, query.find(index).size());
+    }
+
+    @Test
+    public void using_or_unionOfTerms() {
+        assertMatches(Arrays.asList(ALICE, BENSON, DANIEL),
+                LoanQuery.or(Arrays.asList(NAME_MEIER, LoanQuery.word(Field.NAME, "alice"))));
+    }
+
+    @Test
+    public void find_notOrOrWithNot_notNarrowedByIndex() {
+        assertNull(LoanQuery.not(TAG_FRIENDS).find(index));
+        assertNull(LoanQuery.or(Arrays.asList(NAME_MEIER, LoanQuery.not(TAG_FRIENDS))).find(index));
+        assertMatches(Arrays.asList(BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE),
+                LoanQuery.or(Arrays.asList(NAME_MEIER, LoanQuery.not(TAG_FRIENDS))));
+    }
+
+    @Test
+    public void using_listChanged_matchesChangedLoans() {
+        Predicate<Loan> predicate = NAME_MEIER.using(index);
+        Loan editedAlice = new LoanBuilder(ALICE).withName("Alice Meier").build();
+        loans.setLoan(ALICE, editedAlice);
+        assertTrue(predicate.test(editedAlice));
+    }
+
+    /**
+     * Asserts that {@code query} matches exactly {@code expected} of the loans in the list, both when tested on each
+     * loan and when looked up in the index.
+     */
+    private void assertMatches(List<Loan> expected, LoanQuery query) {
+        Predicate<Loan> indexed = query.using(index);
+        List<Loan> typicalLoans = loans.asUnmodifiableObservableList();
+        assertEquals(sorted(expected), sorted(typicalLoans.stream().filter(query).collect(Collectors.toList())));
+        assertEquals(sorted(expected), sorted(typicalLoans.stream().filter(indexed).collect(Collectors.toList())));
+    }
+
+    private static List<String> sorted(List<Loan> loans) {
+        return loans.stream().map(loan -> loan.getName().value).sorted().collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.loan;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -14,6 +16,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.loan.LoanIndex.Field;
 import seedu.address.testutil.LoanBuilder;
 
 public class LoanTest {
@@ -96,4 +99,13 @@ public class LoanTest {
         editedAlice = new LoanBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
         assertFalse(ALICE.equals(editedAlice));
     }
+
+    @Test
+    public void getSearchWords_computedOnce_foldedAndInterned() {
+        Loan loan = new LoanBuilder().withName("Alice PAULINE").build();
+        String[] nameWords = loan.getSearchWords(Field.NAME);
+        assertArrayEquals(new String[] {"alice", "pauline"}, nameWords);
+        assertSame(nameWords, loan.getSearchWords(Field.NAME));
+        assertSame(new String("pauline").intern(), nameWords[1]);
+    }
 }
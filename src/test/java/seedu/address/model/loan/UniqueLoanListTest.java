@@ -3,11 +3,17 @@ package seedu.address.model.loan;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalLoans.ALICE;
 import static seedu.address.testutil.TypicalLoans.BOB;
+import static seedu.address.testutil.TypicalLoans.CARL;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -16,6 +22,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.loan.exceptions.DuplicateLoanException;
 import seedu.address.model.loan.exceptions.LoanNotFoundException;
 import seedu.address.testutil.LoanBuilder;
@@ -51,6 +58,56 @@ public class UniqueLoanListTest {
         assertTrue(uniqueLoanList.contains(editedAlice));
     }
 
+    @Test
+    public void containsLoanWithSameNameAndPhoneOnlyReturnsTrue() {
+        uniqueLoanList.add(ALICE);
+        Loan editedAlice = new LoanBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertTrue(uniqueLoanList.contains(editedAlice));
+    }
+
+    @Test
+    public void containsLoanWithSameNameAndEmailOnlyReturnsTrue() {
+        uniqueLoanList.add(ALICE);
+        Loan editedAlice = new LoanBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertTrue(uniqueLoanList.contains(editedAlice));
+    }
+
+    @Test
+    public void containsLoanWithSameNameOnlyReturnsFalse() {
+        uniqueLoanList.add(ALICE);
+        Loan editedAlice = new LoanBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        assertFalse(uniqueLoanList.contains(editedAlice));
+    }
+
+    @Test
+    public void containsRemovedLoanReturnsFalse() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.remove(ALICE);
+        assertFalse(uniqueLoanList.contains(ALICE));
+    }
+
+    @Test
+    public void containsReplacedLoanReturnsFalse() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.setLoan(ALICE, BOB);
+        assertFalse(uniqueLoanList.contains(ALICE));
+        assertTrue(uniqueLoanList.contains(BOB));
+    }
+
+    @Test
+    public void containsAfterSetLoansReflectsNewLoans() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.setLoans(Collections.singletonList(BOB));
+        assertFalse(uniqueLoanList.contains(ALICE));
+        assertTrue(uniqueLoanList.contains(BOB));
+
+        UniqueLoanList replacement = new UniqueLoanList();
+        replacement.add(ALICE);
+        uniqueLoanList.setLoans(replacement);
+        assertTrue(uniqueLoanList.contains(ALICE));
+        assertFalse(uniqueLoanList.contains(BOB));
+    }
+
     @Test
     public void addNullLoanThrowsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -139,6 +196,45 @@ public class UniqueLoanListTest {
         assertEquals(expectedUniqueLoanList, uniqueLoanList);
     }
 
+    @Test
+    public void replaceRangeReplacesOnlyThatRange() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.add(BOB);
+        Loan editedAlice = new LoanBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueLoanList.replaceRange(0, 1, Collections.singletonList(editedAlice));
+        uniqueLoanList.replaceRange(2, 0, Collections.singletonList(CARL));
+        uniqueLoanList.replaceRange(1, 1, Collections.emptyList());
+
+        UniqueLoanList expectedUniqueLoanList = new UniqueLoanList();
+        expectedUniqueLoanList.add(editedAlice);
+        expectedUniqueLoanList.add(CARL);
+        assertEquals(expectedUniqueLoanList, uniqueLoanList);
+        assertTrue(uniqueLoanList.contains(editedAlice));
+        assertFalse(uniqueLoanList.contains(BOB));
+    }
+
+    @Test
+    public void replaceRangeDuplicateOfRemainingLoanThrowsDuplicateLoanException() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.add(BOB);
+        thrown.expect(DuplicateLoanException.class);
+        uniqueLoanList.replaceRange(1, 1, Collections.singletonList(ALICE));
+    }
+
+    @Test
+    public void replaceRangeDuplicateLoanLeavesListUnchanged() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.add(BOB);
+        try {
+            uniqueLoanList.replaceRange(1, 1, Arrays.asList(CARL, CARL));
+        } catch (DuplicateLoanException e) {
+            assertTrue(uniqueLoanList.contains(BOB));
+            assertFalse(uniqueLoanList.contains(CARL));
+            return;
+        }
+        throw new AssertionError("Expected a DuplicateLoanException.");
+    }
+
     @Test
     public void setLoansNullUniqueLoanListThrowsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -170,6 +266,41 @@ public class UniqueLoanListTest {
         assertEquals(expectedUniqueLoanList, uniqueLoanList);
     }
 
+    @Test
+    public void setLoansListDifferingInOneLoanReplacesOnlyThatLoan() {
+        uniqueLoanList.setLoans(Arrays.asList(ALICE, BOB, CARL));
+        Loan editedBob = new LoanBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        List<Loan> removedLoans = new ArrayList<>();
+        List<Loan> addedLoans = new ArrayList<>();
+        uniqueLoanList.asUnmodifiableObservableList().addListener((ListChangeListener<Loan>) change -> {
+            while (change.next()) {
+                removedLoans.addAll(change.getRemoved());
+                addedLoans.addAll(change.getAddedSubList());
+            }
+        });
+
+        uniqueLoanList.setLoans(Arrays.asList(ALICE, editedBob, CARL));
+        assertEquals(Collections.singletonList(BOB), removedLoans);
+        assertEquals(Collections.singletonList(editedBob), addedLoans);
+        assertTrue(uniqueLoanList.contains(editedBob));
+    }
+
+    @Test
+    public void setLoansListWithDuplicateLoansLeavesListUnchanged() {
+        uniqueLoanList.setLoans(Arrays.asList(ALICE, BOB));
+        try {
+            uniqueLoanList.setLoans(Arrays.asList(ALICE, CARL, CARL));
+        } catch (DuplicateLoanException e) {
+            UniqueLoanList expectedUniqueLoanList = new UniqueLoanList();
+            expectedUniqueLoanList.setLoans(Arrays.asList(ALICE, BOB));
+            assertEquals(expectedUniqueLoanList, uniqueLoanList);
+            assertTrue(uniqueLoanList.contains(BOB));
+            assertFalse(uniqueLoanList.contains(CARL));
+            return;
+        }
+        throw new AssertionError("Expected a DuplicateLoanException.");
+    }
+
     @Test
     public void setLoansListWithDuplicateLoansThrowsDuplicateLoanException() {
         List<Loan> listWithDuplicateLoans = Arrays.asList(ALICE, ALICE);
@@ -177,6 +308,51 @@ public class UniqueLoanListTest {
         uniqueLoanList.setLoans(listWithDuplicateLoans);
     }
 
+    @Test
+    public void setLoansListWithDuplicateLoansReportsEveryDuplicatePair() {
+        Loan editedAlice = new LoanBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Loan aliceWithOtherEmail = new LoanBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        List<Loan> loans = Arrays.asList(ALICE, BOB, editedAlice, aliceWithOtherEmail);
+        try {
+            uniqueLoanList.setLoans(loans);
+            throw new AssertionError("The expected DuplicateLoanException was not thrown.");
+        } catch (DuplicateLoanException dle) {
+            assertEquals(Arrays.asList(
+                    new SimpleImmutableEntry<>(ALICE, editedAlice),
+                    new SimpleImmutableEntry<>(ALICE, aliceWithOtherEmail),
+                    new SimpleImmutableEntry<>(editedAlice, aliceWithOtherEmail)),
+                    dle.getDuplicatePairs());
+        }
+        assertEquals(new UniqueLoanList(), uniqueLoanList);
+    }
+
+    @Test
+    public void findDuplicateLoansUniqueLoansReturnsEmptyList() {
+        assertEquals(Collections.emptyList(), UniqueLoanList.findDuplicateLoans(Arrays.asList(ALICE, BOB)));
+    }
+
+    @Test
+    public void addSetAndRemoveLoanListenersSeeUpdatedWordIndex() {
+        LoanIndex wordIndex = uniqueLoanList.getWordIndex();
+        Loan editedBob = new LoanBuilder(BOB).withAddress(VALID_ADDRESS_AMY).build();
+        List<Boolean> removedLoansIndexed = new ArrayList<>();
+        List<Boolean> addedLoansIndexed = new ArrayList<>();
+        uniqueLoanList.asUnmodifiableObservableList().addListener((ListChangeListener<Loan>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(loan ->
+                        removedLoansIndexed.add(wordIndex.getLoans(LoanIndex.Field.NAME, "bob").contains(loan)));
+                change.getAddedSubList().forEach(loan ->
+                        addedLoansIndexed.add(wordIndex.getLoans(LoanIndex.Field.NAME, "bob").contains(loan)));
+            }
+        });
+
+        uniqueLoanList.add(BOB);
+        uniqueLoanList.setLoan(BOB, editedBob);
+        uniqueLoanList.remove(editedBob);
+        assertEquals(Arrays.asList(true, true), addedLoansIndexed);
+        assertEquals(Arrays.asList(false, false), removedLoansIndexed);
+    }
+
     @Test
     public void asUnmodifiableObservableListModifyListThrowsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,113 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_nullCollection_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.of(null);
+    }
+
+    @Test
+    public void of_persistentList_returnsSameList() {
+        PersistentList<Integer> list = PersistentList.of(Arrays.asList(1, 2, 3));
+        assertSame(list, PersistentList.of(list));
+    }
+
+    @Test
+    public void of_collection_keepsIterationOrder() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(i);
+        }
+        assertEquals(elements, PersistentList.of(elements));
+        assertEquals(Collections.emptyList(), PersistentList.of(Collections.emptyList()));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.of(Arrays.asList(1, 2, 3)).get(3);
+    }
+
+    @Test
+    public void plus_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.of(Arrays.asList(1, 2, 3)).plus(4, 4);
+    }
+
+    @Test
+    public void minus_emptyList_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.empty().minus(0);
+    }
+
+    @Test
+    public void with_validIndex_leavesOriginalUnchanged() {
+        PersistentList<Integer> original = PersistentList.of(Arrays.asList(1, 2, 3));
+        PersistentList<Integer> modified = original.with(1, 5);
+        assertEquals(Arrays.asList(1, 2, 3), original);
+        assertEquals(Arrays.asList(1, 5, 3), modified);
+    }
+
+    @Test
+    public void plusAndMinus_randomOperations_matchArrayListAndKeepOldVersions() {
+        Random random = new Random(4);
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            } else if (operation == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            }
+            expectedVersions.add(new ArrayList<>(expected));
+            versions.add(actual);
+        }
+
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i));
+        }
+    }
+
+    @Test
+    public void plus_manyAppends_staysBalanced() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 1 << 16; i++) {
+            list = list.plus(i);
+        }
+        assertEquals(1 << 16, list.size());
+        for (int i = 0; i < list.size(); i += 997) {
+            assertTrue(list.get(i) == i);
+        }
+    }
+}
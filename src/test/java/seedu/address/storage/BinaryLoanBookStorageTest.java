@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalLoans.ALICE;
+import static seedu.address.testutil.TypicalLoans.BENSON;
+import static seedu.address.testutil.TypicalLoans.HOON;
+import static seedu.address.testutil.TypicalLoans.IDA;
+import static seedu.address.testutil.TypicalLoans.getTypicalLoanBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.model.LoanBook;
+import seedu.address.model.ReadOnlyLoanBook;
+import seedu.address.model.loan.Loan;
+import seedu.address.testutil.LoanBookBuilder;
+import seedu.address.testutil.LoanBuilder;
+
+public class BinaryLoanBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinaryLoanBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempLoanBook.bin");
+        storage = new BinaryLoanBookStorage(filePath);
+    }
+
+    @Test
+    public void readLoanBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.readLoanBook(null);
+    }
+
+    @Test
+    public void readLoanBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readLoanBook().isPresent());
+    }
+
+    @Test
+    public void readLoanBook_xmlFile_throwsDataConversionException() throws Exception {
+        new XmlLoanBookStorage(filePath).saveLoanBook(getTypicalLoanBook());
+        thrown.expect(DataConversionException.class);
+        storage.readLoanBook();
+    }
+
+    @Test
+    public void readLoanBook_unsupportedVersion_throwsDataConversionException() throws Exception {
+        storage.saveLoanBook(getTypicalLoanBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryLoanBookWriter.VERSION + 1);
+        Files.write(filePath, bytes);
+        thrown.expect(DataConversionException.class);
+        storage.readLoanBook();
+    }
+
+    @Test
+    public void readLoanBook_truncatedFile_throwsDataConversionException() throws Exception {
+        storage.saveLoanBook(getTypicalLoanBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        thrown.expect(DataConversionException.class);
+        storage.readLoanBook();
+    }
+
+    @Test
+    public void readLoanBook_invalidName_throwsDataConversionException() throws Exception {
+        storage.saveLoanBook(new LoanBookBuilder().withLoan(new LoanBuilder().withName("Amy Bee").build()).build());
+        byte[] bytes = Files.readAllBytes(filePath);
+        String contents = new String(bytes, "ISO-8859-1").replace("Amy Bee", "Amy Be!");
+        Files.write(filePath, contents.getBytes("ISO-8859-1"));
+        thrown.expect(DataConversionException.class);
+        storage.readLoanBook();
+    }
+
+    @Test
+    public void readLoanBook_corruptedLoan_throwsDataConversionException() throws Exception {
+        storage.saveLoanBook(getTypicalLoanBook());
+        replaceInFile("Benson", "Bxnson");
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(String.format(BinaryLoanBookReader.MESSAGE_CHECKSUM_MISMATCH, "file"));
+        storage.readLoanBook();
+    }
+
+    @Test
+    public void recoverLoanBook_corruptedLoan_otherLoansRecovered() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        storage.saveLoanBook(original);
+        replaceInFile("Benson", "Bxnson");
+
+        original.removeLoan(BENSON);
+        assertEquals(original, new LoanBook(storage.recoverLoanBook().get()));
+    }
+
+    @Test
+    public void recoverLoanBook_corruptedStringTable_emptyResult() throws Exception {
+        storage.saveLoanBook(getTypicalLoanBook());
+        replaceInFile("Jurong", "Jxrong");
+        assertFalse(storage.recoverLoanBook().isPresent());
+    }
+
+    @Test
+    public void saveLoanBook_fileJustRead_savedOverAndMappingReleased() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        storage.saveLoanBook(original);
+        assertEquals(original, new LoanBook(storage.readLoanBook().get()));
+
+        // the mapping of the file read must be released, or Windows does not let the file be replaced
+        Path maps = Paths.get("/proc/self/maps");
+        if (Files.isReadable(maps)) {
+            assertFalse(new String(Files.readAllBytes(maps), "UTF-8").contains(filePath.toString()));
+        }
+        original.addLoan(HOON);
+        storage.saveLoanBook(original);
+        assertEquals(original, new LoanBook(storage.readLoanBook().get()));
+    }
+
+    @Test
+    public void readAndSaveLoanBook_allInOrder_success() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+
+        storage.saveLoanBook(original, filePath);
+        assertEquals(original, new LoanBook(storage.readLoanBook(filePath).get()));
+
+        original.addLoan(HOON);
+        original.removeLoan(ALICE);
+        storage.saveLoanBook(original, filePath);
+        assertEquals(original, new LoanBook(storage.readLoanBook(filePath).get()));
+
+        original.addLoan(IDA);
+        storage.saveLoanBook(original);
+        assertEquals(original, new LoanBook(storage.readLoanBook().get()));
+    }
+
+    @Test
+    public void readAndSaveLoanBook_compressed_success() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        BinaryLoanBookStorage compressingStorage = new BinaryLoanBookStorage(filePath, CompressionUtil.BEST_SPEED);
+
+        compressingStorage.saveLoanBook(original);
+        assertTrue(CompressionUtil.isCompressed(filePath));
+        assertEquals(original, new LoanBook(storage.readLoanBook().get()));
+        assertEquals(original, new LoanBook(storage.recoverLoanBook().get()));
+    }
+
+    @Test
+    public void readLoanBook_repeatedAddressesAndTags_sharedAfterReading() throws Exception {
+        Loan first = new LoanBuilder().withName("Amy Bee").withAddress("Blk 1 Kent Ridge").withTags("late").build();
+        Loan second = new LoanBuilder().withName("Bob Choo").withAddress("Blk 1 Kent Ridge").withTags("late").build();
+        storage.saveLoanBook(new LoanBookBuilder().withLoan(first).withLoan(second).build());
+
+        ReadOnlyLoanBook readBack = storage.readLoanBook().get();
+        Loan firstRead = readBack.getLoanList().get(0);
+        Loan secondRead = readBack.getLoanList().get(1);
+        assertEquals(first, firstRead);
+        assertEquals(second, secondRead);
+        assertSame(firstRead.getAddress(), secondRead.getAddress());
+        assertSame(firstRead.getTags().iterator().next(), secondRead.getTags().iterator().next());
+    }
+
+    @Test
+    public void saveLoanBook_nullLoanBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveLoanBook(null);
+    }
+
+    /**
+     * Replaces the bytes of {@code target} in the file with those of {@code replacement}, of the same length.
+     */
+    private void replaceInFile(String target, String replacement) throws Exception {
+        String contents = new String(Files.readAllBytes(filePath), "ISO-8859-1").replace(target, replacement);
+        Files.write(filePath, contents.getBytes("ISO-8859-1"));
+    }
+}
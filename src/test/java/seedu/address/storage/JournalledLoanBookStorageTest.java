@@ -0,0 +1,228 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalLoans.ALICE;
+import static seedu.address.testutil.TypicalLoans.BENSON;
+import static seedu.address.testutil.TypicalLoans.HOON;
+import static seedu.address.testutil.TypicalLoans.IDA;
+import static seedu.address.testutil.TypicalLoans.getTypicalLoanBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.LoanBook;
+import seedu.address.testutil.LoanBuilder;
+
+public class JournalledLoanBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempLoanBook.xml");
+    }
+
+    @Test
+    public void readLoanBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalledLoanBookStorage(filePath).readLoanBook(null);
+    }
+
+    @Test
+    public void readLoanBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalledLoanBookStorage(filePath).readLoanBook().isPresent());
+    }
+
+    @Test
+    public void saveLoanBook_nullLoanBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalledLoanBookStorage(filePath).saveLoanBook(null);
+    }
+
+    @Test
+    public void readAndSaveLoanBook_allInOrder_success() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        JournalledLoanBookStorage storage = new JournalledLoanBookStorage(filePath);
+
+        storage.saveLoanBook(original);
+        assertEquals(original, new LoanBook(storage.readLoanBook().get()));
+
+        original.addLoan(HOON);
+        original.removeLoan(ALICE);
+        storage.saveLoanBook(original);
+        original.updateLoan(BENSON, new LoanBuilder(BENSON).withAddress("Changed address").build());
+        storage.saveLoanBook(original);
+        assertEquals(original, new LoanBook(storage.readLoanBook().get()));
+
+        // a new storage sees the same loan book, and keeps appending to the journal
+        JournalledLoanBookStorage reopened = new JournalledLoanBookStorage(filePath);
+        assertEquals(original, new LoanBook(reopened.readLoanBook().get()));
+        original.addLoan(IDA);
+        reopened.saveLoanBook(original);
+        assertEquals(original, new LoanBook(new JournalledLoanBookStorage(filePath).readLoanBook().get()));
+    }
+
+    @Test
+    public void saveLoanBook_afterFirstSave_appendsOnlyTheChange() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        JournalledLoanBookStorage storage = new JournalledLoanBookStorage(filePath);
+        storage.saveLoanBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addLoan(HOON);
+        storage.saveLoanBook(original);
+        long recordSize = Files.size(JournalledLoanBookStorage.getJournalPath(filePath));
+        original.removeLoan(HOON);
+        storage.saveLoanBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertTrue(recordSize < snapshot.length / 4);
+        // a removal carries no loan, so its record is smaller than the addition's
+        assertTrue(Files.size(JournalledLoanBookStorage.getJournalPath(filePath)) < 2 * recordSize);
+    }
+
+    @Test
+    public void readAndSaveLoanBook_fieldsLongerThanModifiedUtf8Limit_journalledAndRead() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        JournalledLoanBookStorage storage = new JournalledLoanBookStorage(filePath);
+        storage.saveLoanBook(original);
+
+        // more than the 65535 bytes that DataOutputStream#writeUTF can write, in fewer characters
+        StringBuilder address = new StringBuilder();
+        StringBuilder tag = new StringBuilder();
+        for (int i = 0; i < 40000; i++) {
+            address.append('\u00e9');
+            tag.append("ab");
+        }
+        original.addLoan(new LoanBuilder(HOON).withAddress(address.toString()).withTags(tag.toString()).build());
+        storage.saveLoanBook(original);
+        original.addLoan(IDA);
+        storage.saveLoanBook(original);
+
+        assertEquals(original, new JournalledLoanBookStorage(filePath).readLoanBook().get());
+    }
+
+    @Test
+    public void saveLoanBook_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        JournalledLoanBookStorage storage = new JournalledLoanBookStorage(filePath, 1);
+        storage.saveLoanBook(original);
+        original.addLoan(HOON);
+        storage.saveLoanBook(original);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(JournalledLoanBookStorage.getJournalPath(filePath)));
+        assertFalse(Files.exists(JournalledLoanBookStorage.getCompactingJournalPath(filePath)));
+        assertEquals(original, new LoanBook(new XmlLoanBookStorage(filePath).readLoanBook().get()));
+
+        original.addLoan(IDA);
+        storage.saveLoanBook(original);
+        assertEquals(original, new LoanBook(storage.readLoanBook().get()));
+    }
+
+    @Test
+    public void saveLoanBook_compactionFailedOnce_journalsFoldedIntoSnapshot() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        JournalledLoanBookStorage storage = new JournalledLoanBookStorage(filePath, 1);
+        storage.saveLoanBook(original);
+        // a directory that is not empty cannot be replaced by the new snapshot, so the compaction fails
+        Path newSnapshot = JournalledLoanBookStorage.getNewSnapshotPath(filePath);
+        Files.createDirectory(newSnapshot);
+        Files.createFile(newSnapshot.resolve("blocker"));
+        original.addLoan(HOON);
+        storage.saveLoanBook(original);
+        storage.awaitCompaction();
+        assertTrue(Files.exists(JournalledLoanBookStorage.getCompactingJournalPath(filePath)));
+
+        Files.delete(newSnapshot.resolve("blocker"));
+        Files.delete(newSnapshot);
+        original.addLoan(IDA);
+        storage.saveLoanBook(original);
+        assertFalse(Files.exists(JournalledLoanBookStorage.getJournalPath(filePath)));
+        assertFalse(Files.exists(JournalledLoanBookStorage.getCompactingJournalPath(filePath)));
+        assertEquals(original, new LoanBook(new XmlLoanBookStorage(filePath).readLoanBook().get()));
+
+        // later compactions are no longer blocked by the journal left behind
+        original.removeLoan(HOON);
+        storage.saveLoanBook(original);
+        storage.awaitCompaction();
+        assertFalse(Files.exists(JournalledLoanBookStorage.getCompactingJournalPath(filePath)));
+        assertEquals(original, new LoanBook(new XmlLoanBookStorage(filePath).readLoanBook().get()));
+    }
+
+    @Test
+    public void readLoanBook_recordCutShort_recordDiscarded() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        JournalledLoanBookStorage storage = new JournalledLoanBookStorage(filePath);
+        storage.saveLoanBook(original);
+        original.addLoan(HOON);
+        storage.saveLoanBook(original);
+        Path journal = JournalledLoanBookStorage.getJournalPath(filePath);
+        long intactSize = Files.size(journal);
+        Files.write(journal, new byte[] {0, 0, 1, 0, 42}, StandardOpenOption.APPEND);
+
+        JournalledLoanBookStorage reopened = new JournalledLoanBookStorage(filePath);
+        assertEquals(original, new LoanBook(reopened.readLoanBook().get()));
+        assertEquals(intactSize, Files.size(journal));
+
+        original.addLoan(IDA);
+        reopened.saveLoanBook(original);
+        assertEquals(original, new LoanBook(new JournalledLoanBookStorage(filePath).readLoanBook().get()));
+    }
+
+    @Test
+    public void readLoanBook_interruptedWhileWritingNewSnapshot_newSnapshotDiscarded() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        JournalledLoanBookStorage storage = new JournalledLoanBookStorage(filePath);
+        storage.saveLoanBook(original);
+        original.addLoan(HOON);
+        storage.saveLoanBook(original);
+        Files.move(JournalledLoanBookStorage.getJournalPath(filePath),
+                JournalledLoanBookStorage.getCompactingJournalPath(filePath));
+        Files.write(JournalledLoanBookStorage.getNewSnapshotPath(filePath), "<loanbook>".getBytes());
+
+        JournalledLoanBookStorage reopened = new JournalledLoanBookStorage(filePath);
+        assertEquals(original, new LoanBook(reopened.readLoanBook().get()));
+
+        // the interrupted compaction is completed
+        reopened.awaitCompaction();
+        assertFalse(Files.exists(JournalledLoanBookStorage.getCompactingJournalPath(filePath)));
+        assertEquals(original, new LoanBook(new XmlLoanBookStorage(filePath).readLoanBook().get()));
+    }
+
+    @Test
+    public void readLoanBook_interruptedBeforeReplacingSnapshot_newSnapshotUsed() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        new XmlLoanBookStorage(filePath).saveLoanBook(new LoanBook());
+        new XmlLoanBookStorage(JournalledLoanBookStorage.getNewSnapshotPath(filePath)).saveLoanBook(original);
+
+        assertEquals(original, new LoanBook(new JournalledLoanBookStorage(filePath).readLoanBook().get()));
+        assertFalse(Files.exists(JournalledLoanBookStorage.getNewSnapshotPath(filePath)));
+    }
+
+    @Test
+    public void saveLoanBook_otherFilePath_plainXmlWritten() throws Exception {
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("Other.xml");
+        LoanBook original = getTypicalLoanBook();
+        new JournalledLoanBookStorage(filePath).saveLoanBook(original, otherFilePath);
+
+        assertEquals(original, new LoanBook(new XmlLoanBookStorage(otherFilePath).readLoanBook().get()));
+        assertFalse(Files.exists(JournalledLoanBookStorage.getJournalPath(otherFilePath)));
+    }
+}
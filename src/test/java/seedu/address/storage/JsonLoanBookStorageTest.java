@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalBikes.BIKE1;
+import static seedu.address.testutil.TypicalBikes.BIKE2;
+import static seedu.address.testutil.TypicalLoans.ALICE;
+import static seedu.address.testutil.TypicalLoans.HOON;
+import static seedu.address.testutil.TypicalLoans.IDA;
+import static seedu.address.testutil.TypicalLoans.getTypicalLoanBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.model.LoanBook;
+import seedu.address.model.loan.Name;
+import seedu.address.testutil.LoanBookBuilder;
+
+public class JsonLoanBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private JsonLoanBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempLoanBook.json");
+        storage = new JsonLoanBookStorage(filePath);
+    }
+
+    @Test
+    public void readLoanBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.readLoanBook(null);
+    }
+
+    @Test
+    public void readLoanBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readLoanBook().isPresent());
+    }
+
+    @Test
+    public void readLoanBook_notJsonFormat_throwsDataConversionException() throws Exception {
+        new XmlLoanBookStorage(filePath).saveLoanBook(getTypicalLoanBook());
+        thrown.expect(DataConversionException.class);
+        storage.readLoanBook();
+    }
+
+    @Test
+    public void readLoanBook_truncatedFile_throwsDataConversionException() throws Exception {
+        storage.saveLoanBook(getTypicalLoanBook());
+        String contents = new String(Files.readAllBytes(filePath), UTF_8);
+        Files.write(filePath, contents.substring(0, contents.length() / 2).getBytes(UTF_8));
+        thrown.expect(DataConversionException.class);
+        storage.readLoanBook();
+    }
+
+    @Test
+    public void readLoanBook_invalidLoan_throwsDataConversionException() throws Exception {
+        writeFile("{\"loans\": [{\"name\": \"Hans!\", \"phone\": \"9482424\", \"email\": \"hans@example.com\","
+                + " \"address\": \"4th street\", \"tagged\": []}]}");
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(Name.MESSAGE_NAME_CONSTRAINTS);
+        storage.readLoanBook();
+    }
+
+    @Test
+    public void readLoanBook_duplicateBikes_throwsDataConversionException() throws Exception {
+        writeFile("{\"bikes\": [{\"name\": \"BIKE001\"}, {\"name\": \"BIKE001\"}]}");
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(JsonLoanBookReader.MESSAGE_DUPLICATE_BIKE);
+        storage.readLoanBook();
+    }
+
+    @Test
+    public void readLoanBook_unknownFields_ignored() throws Exception {
+        writeFile("{\"version\": {\"major\": 1}, \"bikes\": [{\"name\": \"BIKE001\", \"colour\": \"red\"}]}");
+        assertEquals(new LoanBookBuilder().withBike(BIKE1).build(), new LoanBook(storage.readLoanBook().get()));
+    }
+
+    @Test
+    public void readAndSaveLoanBook_allInOrder_success() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        original.addBike(BIKE1);
+
+        storage.saveLoanBook(original, filePath);
+        assertEquals(original, new LoanBook(storage.readLoanBook(filePath).get()));
+
+        original.addLoan(HOON);
+        original.removeLoan(ALICE);
+        original.addBike(BIKE2);
+        storage.saveLoanBook(original, filePath);
+        assertEquals(original, new LoanBook(storage.readLoanBook(filePath).get()));
+
+        original.addLoan(IDA);
+        original.removeBike(BIKE1);
+        storage.saveLoanBook(original);
+        assertEquals(original, new LoanBook(storage.readLoanBook().get()));
+    }
+
+    @Test
+    public void readAndSaveLoanBook_compressed_success() throws Exception {
+        LoanBook original = new LoanBookBuilder(getTypicalLoanBook()).withBike(BIKE1).build();
+        new JsonLoanBookStorage(filePath, CompressionUtil.BEST_SPEED).saveLoanBook(original);
+
+        assertTrue(CompressionUtil.isCompressed(filePath));
+        assertEquals(original, new LoanBook(storage.readLoanBook().get()));
+    }
+
+    @Test
+    public void saveLoanBook_nullLoanBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveLoanBook(null);
+    }
+
+    private void writeFile(String contents) throws Exception {
+        Files.write(filePath, contents.getBytes(UTF_8));
+    }
+}
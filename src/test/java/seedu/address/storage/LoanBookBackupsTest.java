@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalLoans.ALICE;
+import static seedu.address.testutil.TypicalLoans.HOON;
+import static seedu.address.testutil.TypicalLoans.getTypicalLoanBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.LoanBook;
+
+public class LoanBookBackupsTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path dataFile;
+    private LoanBookBackups backups;
+
+    @Before
+    public void setUp() {
+        dataFile = testFolder.getRoot().toPath().resolve("loanbook.xml");
+        backups = new LoanBookBackups(testFolder.getRoot().toPath().resolve("backups"), 3);
+    }
+
+    @Test
+    public void constructor_nonPositiveRetainedCount_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new LoanBookBackups(testFolder.getRoot().toPath(), 0);
+    }
+
+    @Test
+    public void backUp_unchangedFile_linkedToPreviousGeneration() throws Exception {
+        Files.write(dataFile, "first".getBytes(UTF_8));
+        Path first = getBackup(backups.backUp(Collections.singletonList(dataFile)));
+        Path second = getBackup(backups.backUp(Collections.singletonList(dataFile)));
+
+        assertTrue(Files.isSameFile(first, second));
+        assertFalse(Files.isSameFile(dataFile, second));
+    }
+
+    @Test
+    public void backUp_changedFile_copied() throws Exception {
+        Files.write(dataFile, "first".getBytes(UTF_8));
+        Path first = getBackup(backups.backUp(Collections.singletonList(dataFile)));
+        Files.write(dataFile, "second".getBytes(UTF_8));
+        Files.setLastModifiedTime(dataFile, FileTime.fromMillis(Files.getLastModifiedTime(first).toMillis() + 1000));
+        Path second = getBackup(backups.backUp(Collections.singletonList(dataFile)));
+
+        assertFalse(Files.isSameFile(first, second));
+        assertArrayEquals("first".getBytes(UTF_8), Files.readAllBytes(first));
+        assertArrayEquals("second".getBytes(UTF_8), Files.readAllBytes(second));
+    }
+
+    @Test
+    public void backUp_moreThanRetained_oldestDeleted() throws Exception {
+        Files.write(dataFile, "data".getBytes(UTF_8));
+        Instant oldest = backups.backUp(Collections.singletonList(dataFile));
+        for (int i = 0; i < 3; i++) {
+            backups.backUp(Collections.singletonList(dataFile));
+        }
+
+        List<Instant> times = backups.getBackupTimes();
+        assertEquals(3, times.size());
+        assertTrue(times.get(0).isAfter(oldest));
+        assertTrue(Files.exists(getBackup(times.get(0))));
+    }
+
+    @Test
+    public void restore_partitionedLoanBook_restoredAsBackedUp() throws Exception {
+        PartitionedLoanBookStorage storage = new PartitionedLoanBookStorage(dataFile);
+        LoanBook original = getTypicalLoanBook();
+        storage.saveLoanBook(original);
+        Instant firstBackup = backups.backUp(storage.getLoanBookFiles());
+
+        LoanBook edited = getTypicalLoanBook();
+        edited.removeLoan(ALICE);
+        edited.addLoan(HOON);
+        storage.saveLoanBook(edited);
+        Instant secondBackup = backups.backUp(storage.getLoanBookFiles());
+
+        assertEquals(firstBackup, backups.restore(secondBackup.minusMillis(1), storage).get());
+        assertEquals(original, new LoanBook(new PartitionedLoanBookStorage(dataFile).readLoanBook().get()));
+
+        assertEquals(secondBackup, backups.restore(Instant.now(), storage).get());
+        assertEquals(edited, new LoanBook(new PartitionedLoanBookStorage(dataFile).readLoanBook().get()));
+    }
+
+    @Test
+    public void restore_beforeFirstBackup_emptyResult() throws Exception {
+        XmlLoanBookStorage storage = new XmlLoanBookStorage(dataFile);
+        storage.saveLoanBook(getTypicalLoanBook());
+        Instant backup = backups.backUp(storage.getLoanBookFiles());
+
+        assertFalse(backups.restore(backup.minusMillis(1), storage).isPresent());
+    }
+
+    @Test
+    public void restore_journalledLoanBook_newerJournalDeleted() throws Exception {
+        JournalledLoanBookStorage storage = new JournalledLoanBookStorage(dataFile);
+        LoanBook original = getTypicalLoanBook();
+        storage.saveLoanBook(original);
+        Instant backup = backups.backUp(storage.getLoanBookFiles());
+
+        LoanBook edited = getTypicalLoanBook();
+        edited.addLoan(HOON);
+        storage.saveLoanBook(edited);
+        assertEquals(Arrays.asList(dataFile.resolveSibling("loanbook.xml.journal"), dataFile),
+                storage.getLoanBookFiles());
+
+        backups.restore(backup, storage);
+        assertEquals(Collections.singletonList(dataFile), storage.getLoanBookFiles());
+        assertEquals(original, new LoanBook(new JournalledLoanBookStorage(dataFile).readLoanBook().get()));
+    }
+
+    /**
+     * Returns the backup of the data file in the generation taken at {@code time}.
+     */
+    private Path getBackup(Instant time) {
+        return backups.getBackupDirectory().resolve("generation-" + time.toEpochMilli()).resolve("loanbook.xml");
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalLoans.getTypicalLoanBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.LoanBook;
+
+public class LoanBookFormatConverterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameXml() throws Exception {
+        Path xmlFile = testFolder.getRoot().toPath().resolve("loanbook.xml");
+        Path binaryFile = testFolder.getRoot().toPath().resolve("loanbook.bin");
+        Path convertedXmlFile = testFolder.getRoot().toPath().resolve("converted.xml");
+        new XmlLoanBookStorage(xmlFile).saveLoanBook(getTypicalLoanBook());
+
+        LoanBookFormatConverter.convertXmlToBinary(xmlFile, binaryFile);
+        assertEquals(getTypicalLoanBook(), BinaryLoanBookReader.read(binaryFile));
+
+        LoanBookFormatConverter.convertBinaryToXml(binaryFile, convertedXmlFile);
+        assertArrayEquals(Files.readAllBytes(xmlFile), Files.readAllBytes(convertedXmlFile));
+    }
+
+    @Test
+    public void convertBinaryToXml_sourceNotBinary_throwsDataConversionException() throws Exception {
+        Path xmlFile = testFolder.getRoot().toPath().resolve("loanbook.xml");
+        new XmlLoanBookStorage(xmlFile).saveLoanBook(new LoanBook());
+        thrown.expect(DataConversionException.class);
+        LoanBookFormatConverter.convertBinaryToXml(xmlFile, testFolder.getRoot().toPath().resolve("converted.xml"));
+    }
+}
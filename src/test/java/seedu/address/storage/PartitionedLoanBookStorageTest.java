@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalLoans.ALICE;
+import static seedu.address.testutil.TypicalLoans.BENSON;
+import static seedu.address.testutil.TypicalLoans.HOON;
+import static seedu.address.testutil.TypicalLoans.IDA;
+import static seedu.address.testutil.TypicalLoans.getTypicalLoanBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.LoanBook;
+import seedu.address.testutil.LoanBuilder;
+
+public class PartitionedLoanBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempLoanBook.manifest");
+    }
+
+    @Test
+    public void constructor_invalidSegmentCount_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new PartitionedLoanBookStorage(filePath, PartitionedLoanBookStorage.MAX_SEGMENT_COUNT + 1);
+    }
+
+    @Test
+    public void readLoanBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new PartitionedLoanBookStorage(filePath).readLoanBook(null);
+    }
+
+    @Test
+    public void readLoanBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new PartitionedLoanBookStorage(filePath).readLoanBook().isPresent());
+    }
+
+    @Test
+    public void readLoanBook_notManifest_throwsDataConversionException() throws Exception {
+        new XmlLoanBookStorage(filePath).saveLoanBook(getTypicalLoanBook());
+        thrown.expect(DataConversionException.class);
+        new PartitionedLoanBookStorage(filePath).readLoanBook();
+    }
+
+    @Test
+    public void readLoanBook_missingSegment_throwsIoException() throws Exception {
+        new PartitionedLoanBookStorage(filePath, 4).saveLoanBook(getTypicalLoanBook());
+        try (Stream<Path> segments = Files.list(testFolder.getRoot().toPath())) {
+            Files.delete(segments.filter(file -> !file.equals(filePath)).findFirst().get());
+        }
+        thrown.expect(IOException.class);
+        new PartitionedLoanBookStorage(filePath, 4).readLoanBook();
+    }
+
+    @Test
+    public void saveLoanBook_nullLoanBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new PartitionedLoanBookStorage(filePath).saveLoanBook(null);
+    }
+
+    @Test
+    public void readAndSaveLoanBook_allInOrder_success() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        PartitionedLoanBookStorage storage = new PartitionedLoanBookStorage(filePath, 4);
+
+        storage.saveLoanBook(original);
+        assertEquals(original, new LoanBook(storage.readLoanBook().get()));
+
+        original.addLoan(HOON);
+        original.removeLoan(ALICE);
+        storage.saveLoanBook(original);
+        original.updateLoan(BENSON, new LoanBuilder(BENSON).withName("Benson Changed").build());
+        storage.saveLoanBook(original);
+        assertEquals(original, new LoanBook(storage.readLoanBook().get()));
+
+        // a new storage, even of another number of segments, reads the same loan book and can save to it
+        PartitionedLoanBookStorage reopened = new PartitionedLoanBookStorage(filePath, 3);
+        assertEquals(original, new LoanBook(reopened.readLoanBook().get()));
+        original.addLoan(IDA);
+        reopened.saveLoanBook(original);
+        assertEquals(original, new LoanBook(new PartitionedLoanBookStorage(filePath).readLoanBook().get()));
+        assertEquals(3 + 1, countFiles());
+    }
+
+    @Test
+    public void saveLoanBook_oneLoanEdited_onlyItsSegmentRewritten() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        PartitionedLoanBookStorage storage = new PartitionedLoanBookStorage(filePath, 4);
+        storage.saveLoanBook(original);
+        Map<String, Integer> before = getSegmentGenerations();
+
+        original.updateLoan(BENSON, new LoanBuilder(BENSON).withAddress("Changed address").build());
+        storage.saveLoanBook(original);
+        Map<String, Integer> after = getSegmentGenerations();
+
+        assertEquals(before.keySet(), after.keySet());
+        long rewritten = before.keySet().stream().filter(segment -> !before.get(segment).equals(after.get(segment)))
+                .count();
+        assertEquals(1, rewritten);
+        assertEquals(4 + 1, countFiles());
+    }
+
+    @Test
+    public void saveLoanBook_unusedSegmentNotDeletable_savedAndDeletedLater() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        PartitionedLoanBookStorage storage = new PartitionedLoanBookStorage(filePath, 4);
+        storage.saveLoanBook(original);
+        // a directory that is not empty cannot be deleted, as a segment file still mapped on Windows cannot be
+        Path undeletable = PartitionedLoanBookStorage.getSegmentPath(filePath, 0, 0);
+        Files.createDirectory(undeletable);
+        Files.createFile(undeletable.resolve("blocker"));
+
+        original.updateLoan(BENSON, new LoanBuilder(BENSON).withAddress("Changed address").build());
+        storage.saveLoanBook(original);
+        long filesAfterSave = countFiles();
+        storage.saveLoanBook(original);
+        assertEquals(filesAfterSave, countFiles());
+        assertEquals(original, new LoanBook(new PartitionedLoanBookStorage(filePath, 4).readLoanBook().get()));
+
+        Files.delete(undeletable.resolve("blocker"));
+        original.updateLoan(ALICE, new LoanBuilder(ALICE).withAddress("Changed address").build());
+        storage.saveLoanBook(original);
+        assertFalse(Files.exists(undeletable));
+        assertEquals(4 + 1, countFiles());
+    }
+
+    @Test
+    public void saveLoanBook_loansReordered_orderKept() throws Exception {
+        LoanBook original = getTypicalLoanBook();
+        PartitionedLoanBookStorage storage = new PartitionedLoanBookStorage(filePath, 4);
+        storage.saveLoanBook(original);
+
+        LoanBook reordered = new LoanBook();
+        reordered.setLoans(original.getLoanList().stream()
+                .sorted((first, second) -> second.getName().value.compareTo(first.getName().value))
+                .collect(Collectors.toList()));
+        storage.saveLoanBook(reordered);
+        assertEquals(reordered, new LoanBook(new PartitionedLoanBookStorage(filePath, 4).readLoanBook().get()));
+    }
+
+    @Test
+    public void saveLoanBook_otherFilePath_allSegmentsWritten() throws Exception {
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("Other.manifest");
+        LoanBook original = getTypicalLoanBook();
+        PartitionedLoanBookStorage storage = new PartitionedLoanBookStorage(filePath, 4);
+        storage.saveLoanBook(original);
+        storage.saveLoanBook(original, otherFilePath);
+
+        assertEquals(original, new LoanBook(storage.readLoanBook(otherFilePath).get()));
+        assertTrue(Files.exists(PartitionedLoanBookStorage.getSegmentPath(otherFilePath, 0, 1)));
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            return files.count();
+        }
+    }
+
+    /**
+     * Returns the generation of the file of each segment, by segment.
+     */
+    private Map<String, Integer> getSegmentGenerations() throws IOException {
+        String prefix = filePath.getFileName() + ".segment";
+        Map<String, Integer> generations = new HashMap<>();
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix))
+                    .map(name -> name.substring(prefix.length()).split("\\."))
+                    .forEach(parts -> generations.put(parts[0], Integer.parseInt(parts[1])));
+        }
+        return generations;
+    }
+}
@@ -3,11 +3,18 @@ package seedu.address.storage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalLoans.ALICE;
+import static seedu.address.testutil.TypicalLoans.BENSON;
+import static seedu.address.testutil.TypicalLoans.CARL;
 import static seedu.address.testutil.TypicalLoans.getTypicalLoanBook;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -83,6 +90,103 @@ public class StorageManagerTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleLoanBookChangedEvent_writeBehindExceptionThrown_eventRaisedByFlush() {
+        Storage storage = new StorageManager(new XmlLoanBookStorageExceptionThrowingStub(Paths.get("dummy")),
+                new JsonUserPrefsStorage(Paths.get("dummy")), true, 0);
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(new LoanBook()));
+        storage.flush();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+    @Test
+    public void handleLoanBookChangedEvent_writeBehindRuntimeExceptionThrown_eventRaisedByFlush() {
+        Storage storage = new StorageManager(new XmlLoanBookStorage(Paths.get("dummy")) {
+            @Override
+            public void saveLoanBook(ReadOnlyLoanBook loanBook, Path filePath) {
+                throw new IllegalStateException("dummy exception");
+            }
+        }, new JsonUserPrefsStorage(Paths.get("dummy")), true, 0);
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(new LoanBook()));
+        storage.flush();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+    @Test
+    public void handleLoanBookChangedEvent_writeBehind_savesLoanBookAsWhenChanged() throws Exception {
+        Storage storage = new StorageManager(new XmlLoanBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true, 0);
+        LoanBook loanBook = getTypicalLoanBook();
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(loanBook));
+        loanBook.removeLoan(ALICE);
+        storage.flush();
+        assertEquals(getTypicalLoanBook(), new LoanBook(storage.readLoanBook().get()));
+    }
+
+    @Test
+    public void handleLoanBookChangedEvent_writeBehindBurstOfChanges_coalescedIntoOneSave() throws Exception {
+        BlockingLoanBookStorageStub loanBookStorage = new BlockingLoanBookStorageStub(getTempFilePath("ab"));
+        Storage storage = new StorageManager(loanBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")), true,
+                0);
+        LoanBook loanBook = new LoanBook();
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(loanBook));
+        loanBookStorage.saveStarted.await();
+
+        // the writer is busy saving the first change, so these three are saved together
+        loanBook.addLoan(ALICE);
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(loanBook));
+        loanBook.addLoan(BENSON);
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(loanBook));
+        loanBook.addLoan(CARL);
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(loanBook));
+        loanBookStorage.saveAllowed.countDown();
+        storage.flush();
+
+        assertEquals(2, loanBookStorage.savedLoanBooks.size());
+        assertEquals(new LoanBook(), loanBookStorage.savedLoanBooks.get(0));
+        assertEquals(loanBook, loanBookStorage.savedLoanBooks.get(1));
+    }
+
+    @Test
+    public void handleLoanBookChangedEvent_withinGroupCommitDelay_savedTogetherOnFlush() throws Exception {
+        BlockingLoanBookStorageStub loanBookStorage = new BlockingLoanBookStorageStub(getTempFilePath("ab"));
+        loanBookStorage.saveAllowed.countDown();
+        Storage storage = new StorageManager(loanBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")), true,
+                60_000);
+        LoanBook loanBook = new LoanBook();
+        loanBook.addLoan(ALICE);
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(loanBook));
+        loanBook.addLoan(BENSON);
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(loanBook));
+        storage.flush();
+
+        assertEquals(1, loanBookStorage.savedLoanBooks.size());
+        assertEquals(loanBook, loanBookStorage.savedLoanBooks.get(0));
+    }
+
+    @Test
+    public void handleLoanBookChangedEvent_withBackups_backedUpAfterSave() throws Exception {
+        LoanBookBackups backups = new LoanBookBackups(getTempFilePath("backups"), 2);
+        StorageManager storage = new StorageManager(new XmlLoanBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true, 0, backups);
+        LoanBook loanBook = getTypicalLoanBook();
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(loanBook));
+        storage.flush();
+        assertEquals(1, backups.getBackupTimes().size());
+
+        loanBook.removeLoan(ALICE);
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(loanBook));
+        storage.flush();
+        Instant firstBackup = backups.getBackupTimes().get(0);
+        assertEquals(firstBackup, storage.restoreLoanBook(firstBackup).get());
+        assertEquals(getTypicalLoanBook(), new LoanBook(storage.readLoanBook().get()));
+    }
+
+    @Test
+    public void flush_synchronousStorage_returns() {
+        storageManager.flush();
+    }
+
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -99,5 +203,29 @@ public class StorageManagerTest {
         }
     }
 
+    /**
+     * A Stub class that records every loan book saved, holding the first save until {@code saveAllowed} is released
+     */
+    class BlockingLoanBookStorageStub extends XmlLoanBookStorage {
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final CountDownLatch saveAllowed = new CountDownLatch(1);
+        private final List<LoanBook> savedLoanBooks = new ArrayList<>();
+
+        public BlockingLoanBookStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveLoanBook(ReadOnlyLoanBook loanBook, Path filePath) throws IOException {
+            savedLoanBooks.add(new LoanBook(loanBook));
+            saveStarted.countDown();
+            try {
+                saveAllowed.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
 
 }
@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.LoanBook;
+import seedu.address.model.loan.Name;
+import seedu.address.testutil.LoanBookBuilder;
+import seedu.address.testutil.LoanBuilder;
+import seedu.address.testutil.TypicalLoans;
+
+public class XmlLoanBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlLoanBookReaderTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER = Paths.get("src", "test", "data",
+            "XmlSerializableLoanBookTest");
+    private static final Path STORAGE_TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlLoanBookStorageTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_nullFile_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        XmlLoanBookReader.read(null);
+    }
+
+    @Test
+    public void read_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlLoanBookReader.read(TEST_DATA_FOLDER.resolve("NonExistentFile.xml"));
+    }
+
+    @Test
+    public void read_typicalLoansFile_success() throws Exception {
+        LoanBook loanBook = XmlLoanBookReader.read(SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalLoansLoanBook.xml"));
+        assertEquals(TypicalLoans.getTypicalLoanBook(), loanBook);
+    }
+
+    @Test
+    public void read_savedByJaxb_sameAsJaxbReads() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("saved.xml");
+        LoanBook original = TypicalLoans.getTypicalLoanBook();
+        new XmlLoanBookStorage(file).saveLoanBook(original);
+
+        assertEquals(XmlFileStorage.loadDataFromSaveFile(file).toModelType(), XmlLoanBookReader.read(file));
+    }
+
+    @Test
+    public void read_inParallel_sameAsReadInOrder() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("saved.xml");
+        LoanBook original = new LoanBook();
+        for (int i = 0; i < 3 * XmlSerializableLoanBook.CHUNK_SIZE; i++) {
+            original.addLoan(new LoanBuilder().withName("Loan " + i).build());
+        }
+        new XmlLoanBookStorage(file).saveLoanBook(original);
+
+        assertEquals(original, XmlLoanBookReader.read(file, true));
+        assertEquals(XmlLoanBookReader.read(file), XmlLoanBookReader.read(file, true));
+    }
+
+    @Test
+    public void read_unknownElements_ignored() throws Exception {
+        LoanBook expected = new LoanBookBuilder().withLoan(new LoanBuilder().withName("Hans Muster")
+                .withPhone("9482424").withEmail("hans@example.com").withAddress("4th street").withTags("friends")
+                .build()).build();
+        assertEquals(expected, XmlLoanBookReader.read(TEST_DATA_FOLDER.resolve("unknownElements.xml")));
+    }
+
+    @Test
+    public void read_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlLoanBookReader.read(STORAGE_TEST_DATA_FOLDER.resolve("NotXmlFormatLoanBook.xml"));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlLoanBookReader.read(TEST_DATA_FOLDER.resolve("truncated.xml"));
+    }
+
+    @Test
+    public void read_wrongRootElement_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(String.format(XmlLoanBookReader.MESSAGE_UNEXPECTED_ROOT_ELEMENT, "loanbook",
+                "addressbook"));
+        XmlLoanBookReader.read(TEST_DATA_FOLDER.resolve("wrongRootElement.xml"));
+    }
+
+    @Test
+    public void read_invalidLoan_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlLoanBookReader.read(STORAGE_TEST_DATA_FOLDER.resolve("invalidAndValidLoanLoanBook.xml"));
+    }
+
+    @Test
+    public void read_duplicateLoans_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(XmlSerializableLoanBook.MESSAGE_DUPLICATE_LOAN);
+        XmlLoanBookReader.read(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateLoanLoanBook.xml"));
+    }
+
+    @Test
+    public void read_invalidLoanInParallel_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlLoanBookReader.read(STORAGE_TEST_DATA_FOLDER.resolve("invalidAndValidLoanLoanBook.xml"), true);
+    }
+
+    @Test
+    public void read_invalidLoansInSeveralChunksInParallel_firstErrorThrown() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("saved.xml");
+        LoanBook loanBook = new LoanBook();
+        for (int i = 0; i < 3 * XmlSerializableLoanBook.CHUNK_SIZE; i++) {
+            loanBook.addLoan(new LoanBuilder().withName("Loan " + i).build());
+        }
+        new XmlLoanBookStorage(file).saveLoanBook(loanBook);
+        String xml = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        xml = xml.replace("<name>Loan " + (XmlSerializableLoanBook.CHUNK_SIZE + 1) + "</name>", "<name>R@chel</name>")
+                .replace("<name>Loan " + (2 * XmlSerializableLoanBook.CHUNK_SIZE + 1) + "</name>", "");
+        Files.write(file, xml.getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(Name.MESSAGE_NAME_CONSTRAINTS);
+        XmlLoanBookReader.read(file, true);
+    }
+
+    @Test
+    public void read_duplicateLoansInParallel_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(XmlSerializableLoanBook.MESSAGE_DUPLICATE_LOAN);
+        XmlLoanBookReader.read(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateLoanLoanBook.xml"), true);
+    }
+
+    @Test
+    public void recover_invalidLoan_validLoansRecovered() throws Exception {
+        LoanBook expected = new LoanBookBuilder().withLoan(new LoanBuilder().withName("Hans Muster")
+                .withPhone("9482424").withEmail("hans@example.com").withAddress("4th street").withTags().build())
+                .build();
+        assertEquals(expected,
+                XmlLoanBookReader.recover(STORAGE_TEST_DATA_FOLDER.resolve("invalidAndValidLoanLoanBook.xml")));
+    }
+
+    @Test
+    public void recover_truncatedFile_loansBeforeTruncationRecovered() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("saved.xml");
+        new XmlLoanBookStorage(file).saveLoanBook(TypicalLoans.getTypicalLoanBook());
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+        LoanBook recovered = XmlLoanBookReader.recover(file);
+        assertFalse(recovered.getLoanList().isEmpty());
+        assertEquals(TypicalLoans.getTypicalLoans().subList(0, recovered.getLoanList().size()),
+                recovered.getLoanList());
+    }
+
+    @Test
+    public void recover_wrongRootElement_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlLoanBookReader.recover(TEST_DATA_FOLDER.resolve("wrongRootElement.xml"));
+    }
+}
@@ -2,12 +2,14 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalLoans.ALICE;
 import static seedu.address.testutil.TypicalLoans.HOON;
 import static seedu.address.testutil.TypicalLoans.IDA;
 import static seedu.address.testutil.TypicalLoans.getTypicalLoanBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -17,6 +19,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
 import seedu.address.model.LoanBook;
 import seedu.address.model.ReadOnlyLoanBook;
 
@@ -99,6 +102,24 @@ public class XmlLoanBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveLoanBook_compressed_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempLoanBook.xml");
+        Path uncompressedFilePath = testFolder.getRoot().toPath().resolve("Uncompressed.xml");
+        LoanBook original = getTypicalLoanBook();
+        new XmlLoanBookStorage(uncompressedFilePath).saveLoanBook(original);
+        XmlLoanBookStorage xmlLoanBookStorage = new XmlLoanBookStorage(filePath, false,
+                CompressionUtil.BEST_COMPRESSION);
+
+        xmlLoanBookStorage.saveLoanBook(original);
+        assertTrue(CompressionUtil.isCompressed(filePath));
+        assertTrue(Files.size(filePath) < Files.size(uncompressedFilePath));
+        assertEquals(original, new LoanBook(xmlLoanBookStorage.readLoanBook().get()));
+
+        // read by a storage that does not compress
+        assertEquals(original, new LoanBook(new XmlLoanBookStorage(filePath).readLoanBook().get()));
+    }
+
     @Test
     public void saveLoanBook_nullLoanBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.LoanBook;
+import seedu.address.model.ReadOnlyLoanBook;
+import seedu.address.testutil.LoanBookBuilder;
+import seedu.address.testutil.LoanBuilder;
+import seedu.address.testutil.TypicalLoans;
+
+public class XmlLoanBookWriterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void write_nullLoanBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        XmlLoanBookWriter.write(null, testFolder.newFile().toPath());
+    }
+
+    @Test
+    public void write_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlLoanBookWriter.write(new LoanBook(), testFolder.getRoot().toPath().resolve("missing.xml"));
+    }
+
+    @Test
+    public void write_typicalLoanBook_sameBytesAsJaxb() throws Exception {
+        assertSameBytesAsJaxb(TypicalLoans.getTypicalLoanBook());
+    }
+
+    @Test
+    public void write_emptyLoanBook_sameBytesAsJaxb() throws Exception {
+        assertSameBytesAsJaxb(new LoanBook());
+    }
+
+    @Test
+    public void write_addressWithMarkupCharacters_sameBytesAsJaxbAndReadBack() throws Exception {
+        LoanBook loanBook = new LoanBookBuilder().withLoan(new LoanBuilder()
+                .withAddress("Blk 1 & 2 <Tower \"B\"> 'East' ]]> é").build()).build();
+        assertSameBytesAsJaxb(loanBook);
+
+        Path file = testFolder.newFile().toPath();
+        XmlLoanBookWriter.write(loanBook, file);
+        assertEquals(loanBook, XmlLoanBookReader.read(file));
+    }
+
+    /**
+     * Asserts that {@code XmlLoanBookWriter} writes {@code loanBook} exactly as JAXB does.
+     */
+    private void assertSameBytesAsJaxb(ReadOnlyLoanBook loanBook) throws Exception {
+        Path jaxbFile = testFolder.newFile().toPath();
+        Path streamedFile = testFolder.newFile().toPath();
+        XmlFileStorage.saveDataToFile(jaxbFile, new XmlSerializableLoanBook(loanBook));
+        XmlLoanBookWriter.write(loanBook, streamedFile);
+        assertArrayEquals(Files.readAllBytes(jaxbFile), Files.readAllBytes(streamedFile));
+    }
+}
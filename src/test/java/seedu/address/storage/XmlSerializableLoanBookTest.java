@@ -4,6 +4,8 @@ import static org.junit.Assert.assertEquals;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -12,6 +14,8 @@ import org.junit.rules.ExpectedException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.LoanBook;
+import seedu.address.model.loan.Name;
+import seedu.address.testutil.LoanBuilder;
 import seedu.address.testutil.TypicalLoans;
 
 public class XmlSerializableLoanBookTest {
@@ -50,4 +54,44 @@ public class XmlSerializableLoanBookTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelTypeInParallel_typicalLoansFile_success() throws Exception {
+        XmlSerializableLoanBook dataFromFile = XmlUtil.getDataFromFile(TYPICAL_LOANS_FILE,
+                XmlSerializableLoanBook.class);
+        assertEquals(TypicalLoans.getTypicalLoanBook(), dataFromFile.toModelTypeInParallel());
+    }
+
+    @Test
+    public void toModelTypeInParallel_invalidLoanFile_throwsIllegalValueException() throws Exception {
+        XmlSerializableLoanBook dataFromFile = XmlUtil.getDataFromFile(INVALID_LOAN_FILE,
+                XmlSerializableLoanBook.class);
+        thrown.expect(IllegalValueException.class);
+        dataFromFile.toModelTypeInParallel();
+    }
+
+    @Test
+    public void toModelTypeInParallel_duplicateLoans_throwsIllegalValueException() throws Exception {
+        XmlSerializableLoanBook dataFromFile = XmlUtil.getDataFromFile(DUPLICATE_LOAN_FILE,
+                XmlSerializableLoanBook.class);
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableLoanBook.MESSAGE_DUPLICATE_LOAN);
+        dataFromFile.toModelTypeInParallel();
+    }
+
+    @Test
+    public void toModelTypeInParallel_invalidLoansInSeveralChunks_firstErrorThrown() throws Exception {
+        List<XmlAdaptedLoan> loans = new ArrayList<>();
+        for (int i = 0; i < 3 * XmlSerializableLoanBook.CHUNK_SIZE; i++) {
+            loans.add(new XmlAdaptedLoan(new LoanBuilder().withName("Loan " + i).build()));
+        }
+        loans.set(XmlSerializableLoanBook.CHUNK_SIZE + 1, new XmlAdaptedLoan("R@chel", "94351253",
+                "rachel@example.com", "4th street", null));
+        loans.set(2 * XmlSerializableLoanBook.CHUNK_SIZE + 1, new XmlAdaptedLoan(null, "94351253",
+                "rachel@example.com", "4th street", null));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Name.MESSAGE_NAME_CONSTRAINTS);
+        XmlSerializableLoanBook.toModelTypeInParallel(loans);
+    }
+
 }